@@ -1,40 +1,80 @@
 package com.employeemgmt.apigateway.config;
 
 import com.employeemgmt.apigateway.filter.JwtAuthenticationFilter;
+import com.employeemgmt.apigateway.filter.RateLimitFilter;
+import com.employeemgmt.apigateway.filter.RequestCoalescingFilter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.cache.LocalResponseCacheGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.builder.GatewayFilterSpec;
 import org.springframework.cloud.gateway.route.RouteLocator;
 import org.springframework.cloud.gateway.route.builder.RouteLocatorBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
+@EnableConfigurationProperties(RateLimitProperties.class)
 public class GatewayConfig {
 
     private final JwtAuthenticationFilter jwtFilter;
+    private final RateLimitFilter rateLimitFilter;
+    private final RequestCoalescingFilter coalescingFilter;
+    private final ObjectProvider<LocalResponseCacheGatewayFilterFactory> responseCacheFactory;
 
-    public GatewayConfig(JwtAuthenticationFilter jwtFilter) {
+    public GatewayConfig(JwtAuthenticationFilter jwtFilter,
+                         RateLimitFilter rateLimitFilter,
+                         RequestCoalescingFilter coalescingFilter,
+                         ObjectProvider<LocalResponseCacheGatewayFilterFactory> responseCacheFactory) {
         this.jwtFilter = jwtFilter;
+        this.rateLimitFilter = rateLimitFilter;
+        this.coalescingFilter = coalescingFilter;
+        this.responseCacheFactory = responseCacheFactory;
     }
 
     @Bean
     public RouteLocator customRouteLocator(RouteLocatorBuilder builder) {
         return builder.routes()
-                // Auth Service Routes (No JWT needed)
+                // Auth Service Routes (No JWT needed, rate limited per client IP)
                 .route("auth-service", r -> r
                         .path("/api/auth/**")
-                        .filters(f -> f.stripPrefix(1))
+                        .filters(f -> f.stripPrefix(1).filter(rateLimitFilter))
                         .uri("lb://auth-service"))
 
-                // Employee Service Routes (JWT required)
+                // Employee Service Routes (JWT required, rate limited per user after authentication,
+                // identical concurrent GETs share one upstream call, optional shared response cache)
                 .route("employee-service-employees", r -> r
                         .path("/api/employees/**")
-                        .filters(f -> f.stripPrefix(1).filter(jwtFilter))
+                        .filters(f -> responseCache(f.stripPrefix(1)
+                                .filter(jwtFilter)
+                                .filter(rateLimitFilter), "employee-service-employees")
+                                .filter(coalescingFilter))
                         .uri("lb://employee-service"))
 
                 .route("employee-service-departments", r -> r
                         .path("/api/departments/**")
-                        .filters(f -> f.stripPrefix(1).filter(jwtFilter))
+                        .filters(f -> responseCache(f.stripPrefix(1)
+                                .filter(jwtFilter)
+                                .filter(rateLimitFilter), "employee-service-departments")
+                                .filter(coalescingFilter))
                         .uri("lb://employee-service"))
 
                 .build();
     }
-}
\ No newline at end of file
+
+    /**
+     * Adds the gateway's local response cache when spring.cloud.gateway.filter.local-response-cache.enabled
+     * is set. It keys entries by URI, Authorization and Vary headers and skips private/no-store responses.
+     * Its own order would run it before authentication, so it is pinned behind the JWT and rate limit filters.
+     */
+    private GatewayFilterSpec responseCache(GatewayFilterSpec filters, String routeId) {
+        LocalResponseCacheGatewayFilterFactory factory = responseCacheFactory.getIfAvailable();
+        if (factory == null) {
+            return filters;
+        }
+        LocalResponseCacheGatewayFilterFactory.RouteCacheConfiguration config =
+                new LocalResponseCacheGatewayFilterFactory.RouteCacheConfiguration();
+        config.setRouteId(routeId);
+        return filters.filter(new OrderedGatewayFilter(factory.apply(config), 0));
+    }
+}
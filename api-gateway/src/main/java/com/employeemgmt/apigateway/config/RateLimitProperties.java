@@ -0,0 +1,40 @@
+package com.employeemgmt.apigateway.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.Map;
+
+/**
+ * Request rate limits, bound from gateway.rate-limit
+ * A limit allows burst-capacity requests at once and refills at replenish-rate per second.
+ * The most specific limit wins: the route's entry for the caller's role, then the route, then defaults.
+ */
+@ConfigurationProperties(prefix = "gateway.rate-limit")
+public record RateLimitProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue Limit defaults,
+        @DefaultValue("100000") long maxKeys,
+        Map<String, RouteLimit> routes) {
+
+    public record Limit(@DefaultValue("50") double replenishRate, @DefaultValue("100") int burstCapacity) {
+    }
+
+    /**
+     * Per-route limit; replenish-rate and burst-capacity fall back to the defaults when unset
+     */
+    public record RouteLimit(Double replenishRate, Integer burstCapacity, Map<String, Limit> roles) {
+    }
+
+    public Limit limitFor(String routeId, String role) {
+        RouteLimit route = routes != null ? routes.get(routeId) : null;
+        if (route == null) {
+            return defaults;
+        }
+        if (role != null && route.roles() != null && route.roles().containsKey(role)) {
+            return route.roles().get(role);
+        }
+        return new Limit(route.replenishRate() != null ? route.replenishRate() : defaults.replenishRate(),
+                route.burstCapacity() != null ? route.burstCapacity() : defaults.burstCapacity());
+    }
+}
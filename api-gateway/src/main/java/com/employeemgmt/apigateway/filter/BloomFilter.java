@@ -0,0 +1,64 @@
+package com.employeemgmt.apigateway.filter;
+
+import java.util.Collection;
+
+/**
+ * Immutable Bloom filter over strings, built once from a known set
+ * mightContain never returns false for a member; it returns true for a non-member with roughly
+ * the false positive rate it was sized for. Probes use double hashing of one 64-bit FNV-1a hash.
+ */
+final class BloomFilter {
+
+    private final long[] bits;
+    private final int bitCount;
+    private final int hashCount;
+
+    private BloomFilter(long[] bits, int bitCount, int hashCount) {
+        this.bits = bits;
+        this.bitCount = bitCount;
+        this.hashCount = hashCount;
+    }
+
+    static BloomFilter of(Collection<String> members, double falsePositiveRate) {
+        int n = Math.max(1, members.size());
+        int bitCount = (int) Math.max(64, Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2))));
+        int hashCount = Math.max(1, (int) Math.round((double) bitCount / n * Math.log(2)));
+        BloomFilter filter = new BloomFilter(new long[(bitCount + 63) >>> 6], bitCount, hashCount);
+        for (String member : members) {
+            filter.add(member);
+        }
+        return filter;
+    }
+
+    boolean mightContain(String value) {
+        long hash = fnv1a(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < hashCount; i++) {
+            int bit = Math.floorMod(h1 + i * h2, bitCount);
+            if ((bits[bit >>> 6] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void add(String value) {
+        long hash = fnv1a(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < hashCount; i++) {
+            int bit = Math.floorMod(h1 + i * h2, bitCount);
+            bits[bit >>> 6] |= 1L << bit;
+        }
+    }
+
+    private static long fnv1a(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,62 @@
+package com.employeemgmt.apigateway.filter;
+
+import com.employeemgmt.apigateway.config.RateLimitProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Lock-free token buckets held in this gateway instance
+ * Each bucket is a single AtomicLong holding its theoretical arrival time (the GCRA form of a token
+ * bucket): a request is allowed when pushing that time forward by one emission interval keeps it
+ * within burst-capacity intervals of now, and the update is a CAS, so contended keys never block.
+ * Buckets idle for ten minutes are evicted; any practical limit has refilled by then, so evicting one
+ * is the same as keeping it.
+ */
+@Component
+public class InMemoryRateLimitBackend implements RateLimitBackend {
+
+    private final Cache<String, AtomicLong> buckets;
+    private final LongSupplier nanoClock;
+
+    @Autowired
+    public InMemoryRateLimitBackend(RateLimitProperties properties) {
+        this(properties, System::nanoTime);
+    }
+
+    InMemoryRateLimitBackend(RateLimitProperties properties, LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(properties.maxKeys())
+                .expireAfterAccess(Duration.ofMinutes(10))
+                .build();
+    }
+
+    @Override
+    public Mono<Decision> tryAcquire(String key, RateLimitProperties.Limit limit) {
+        return Mono.just(acquire(key, limit));
+    }
+
+    Decision acquire(String key, RateLimitProperties.Limit limit) {
+        long interval = (long) (1_000_000_000L / limit.replenishRate());
+        long tolerance = interval * limit.burstCapacity();
+        AtomicLong bucket = buckets.get(key, k -> new AtomicLong(nanoClock.getAsLong()));
+        while (true) {
+            long now = nanoClock.getAsLong();
+            long arrival = bucket.get();
+            long next = Math.max(arrival, now) + interval;
+            if (next - now > tolerance) {
+                return new Decision(false, Duration.ofNanos(next - now - tolerance));
+            }
+            if (bucket.compareAndSet(arrival, next)) {
+                return new Decision(true, Duration.ZERO);
+            }
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.employeemgmt.apigateway.filter;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.RSAPublicKeySpec;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token verification keys fetched from auth-service's JWKS endpoint
+ * The key set is polled in the background and held in memory, so verifying a token never calls
+ * auth-service. auth-service publishes a key well before signing with it; a token with an unknown
+ * kid additionally triggers an early (rate-limited) refresh in case a poll was missed.
+ */
+@Component
+public class JwksKeySource {
+
+    private static final Logger logger = LoggerFactory.getLogger(JwksKeySource.class);
+
+    private final WebClient webClient;
+    private final ObjectMapper objectMapper;
+    private final String jwksUri;
+    private final Duration refreshInterval;
+    private final Duration minRefreshInterval;
+    private final AtomicLong lastOnDemandRefresh = new AtomicLong();
+
+    private volatile Map<String, PublicKey> keys = Map.of();
+    private Disposable poller;
+
+    public JwksKeySource(WebClient.Builder webClientBuilder,
+                         ObjectMapper objectMapper,
+                         @Value("${jwt.jwks.uri:lb://auth-service/auth/.well-known/jwks.json}") String jwksUri,
+                         @Value("${jwt.jwks.refresh-interval:5m}") Duration refreshInterval,
+                         @Value("${jwt.jwks.min-refresh-interval:30s}") Duration minRefreshInterval) {
+        this.webClient = webClientBuilder.build();
+        this.objectMapper = objectMapper;
+        this.jwksUri = jwksUri;
+        this.refreshInterval = refreshInterval;
+        this.minRefreshInterval = minRefreshInterval;
+    }
+
+    @PostConstruct
+    void start() {
+        poller = Flux.interval(Duration.ZERO, refreshInterval)
+                .onBackpressureDrop()
+                .concatMap(tick -> fetch())
+                .subscribe();
+    }
+
+    @PreDestroy
+    void stop() {
+        poller.dispose();
+    }
+
+    /**
+     * Key for a kid, or null when it is not (yet) known
+     */
+    public PublicKey get(String kid) {
+        PublicKey key = kid != null ? keys.get(kid) : null;
+        if (key == null) {
+            refreshEarly();
+        }
+        return key;
+    }
+
+    /**
+     * Replaces the key set with the RSA keys in a JWKS document; other key types are ignored
+     */
+    public void update(String jwksJson) throws IOException, GeneralSecurityException {
+        Base64.Decoder base64Url = Base64.getUrlDecoder();
+        KeyFactory factory = KeyFactory.getInstance("RSA");
+        Map<String, PublicKey> loaded = new HashMap<>();
+        for (JsonNode jwk : objectMapper.readTree(jwksJson).path("keys")) {
+            if (!"RSA".equals(jwk.path("kty").asText()) || !jwk.hasNonNull("kid")) {
+                continue;
+            }
+            BigInteger modulus = new BigInteger(1, base64Url.decode(jwk.path("n").asText()));
+            BigInteger exponent = new BigInteger(1, base64Url.decode(jwk.path("e").asText()));
+            loaded.put(jwk.get("kid").asText(), factory.generatePublic(new RSAPublicKeySpec(modulus, exponent)));
+        }
+        keys = Map.copyOf(loaded);
+        logger.debug("Loaded {} token verification keys", loaded.size());
+    }
+
+    private void refreshEarly() {
+        long now = System.nanoTime();
+        long last = lastOnDemandRefresh.get();
+        if (now - last >= minRefreshInterval.toNanos() && lastOnDemandRefresh.compareAndSet(last, now)) {
+            fetch().subscribe();
+        }
+    }
+
+    private Mono<Void> fetch() {
+        return webClient.get().uri(jwksUri)
+                .retrieve()
+                .bodyToMono(String.class)
+                .flatMap(body -> Mono.fromCallable(() -> {
+                    update(body);
+                    return body;
+                }))
+                .onErrorResume(e -> {
+                    logger.warn("Could not refresh JWKS from {}, keeping {} known keys: {}", jwksUri, keys.size(), e.getMessage());
+                    return Mono.empty();
+                })
+                .then();
+    }
+}
@@ -1,8 +1,5 @@
 package com.employeemgmt.apigateway.filter;
 
-import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jwts;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cloud.gateway.filter.GatewayFilter;
 import org.springframework.cloud.gateway.filter.GatewayFilterChain;
 import org.springframework.http.HttpStatus;
@@ -11,19 +8,34 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
+import java.util.Set;
+
 @Component
 public class JwtAuthenticationFilter implements GatewayFilter {
 
-    @Value("${jwt.secret}")
-    private String secret;
+    /**
+     * Exchange attribute holding the VerifiedToken of an authenticated request
+     */
+    public static final String VERIFIED_TOKEN_ATTR = JwtAuthenticationFilter.class.getName() + ".verifiedToken";
+
+    /**
+     * Matched exactly, with or without the /api prefix the routes strip, so a path that merely
+     * contains one of these is still authenticated
+     */
+    private static final Set<String> OPEN_AUTH_PATHS = Set.of("/auth/login", "/auth/register", "/auth/refresh", "/auth/logout");
+
+    private final JwtTokenVerifier tokenVerifier;
+
+    public JwtAuthenticationFilter(JwtTokenVerifier tokenVerifier) {
+        this.tokenVerifier = tokenVerifier;
+    }
 
     @Override
     public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
         ServerHttpRequest request = exchange.getRequest();
 
         // Skip authentication for auth endpoints
-        String path = request.getURI().getPath();
-        if (path.contains("/auth/login") || path.contains("/auth/register")) {
+        if (isOpenAuthEndpoint(request.getURI().getPath())) {
             return chain.filter(exchange);
         }
 
@@ -42,15 +54,13 @@ public class JwtAuthenticationFilter implements GatewayFilter {
         }
 
         try {
-            Claims claims = Jwts.parser()
-                    .setSigningKey(secret)
-                    .parseClaimsJws(token)
-                    .getBody();
+            JwtTokenVerifier.VerifiedToken verified = tokenVerifier.verify(token);
+            exchange.getAttributes().put(VERIFIED_TOKEN_ATTR, verified);
 
             // Add user info to headers for downstream services
             ServerHttpRequest modifiedRequest = exchange.getRequest().mutate()
-                    .header("X-User-Id", claims.getSubject())
-                    .header("X-User-Role", claims.get("role", String.class))
+                    .header("X-User-Id", verified.subject())
+                    .header("X-User-Role", verified.role())
                     .build();
 
             return chain.filter(exchange.mutate().request(modifiedRequest).build());
@@ -60,4 +70,9 @@ public class JwtAuthenticationFilter implements GatewayFilter {
             return exchange.getResponse().setComplete();
         }
     }
+
+    static boolean isOpenAuthEndpoint(String path) {
+        String unprefixed = path.startsWith("/api/") ? path.substring("/api".length()) : path;
+        return OPEN_AUTH_PATHS.contains(unprefixed);
+    }
 }
@@ -0,0 +1,157 @@
+package com.employeemgmt.apigateway.filter;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Verifies bearer tokens with a parser built once at startup and remembers verified tokens
+ * until they expire, so a client repeating the same token skips the signature check.
+ * RS256 tokens are checked against the auth-service key named by their kid header (see JwksKeySource).
+ * HS512 tokens signed with the old shared secret are accepted only while jwt.secret is still set.
+ * Entries are keyed by the SHA-256 digest of the token (raw tokens are never held) and live until
+ * the token's exp, capped by jwt.cache.max-ttl. Rejected tokens are never cached.
+ * Revocation is checked on every call, cache hit or not, against the in-memory RevokedTokenSet.
+ */
+@Component
+public class JwtTokenVerifier {
+
+    /**
+     * Identity forwarded to downstream services
+     */
+    public record VerifiedToken(String subject, String role, String tokenId, Instant expiresAt) {
+    }
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    private final JwtParser parser;
+    private final Cache<String, VerifiedToken> verified;
+    private final RevokedTokenSet revokedTokens;
+
+    public JwtTokenVerifier(JwksKeySource keySource,
+                            RevokedTokenSet revokedTokens,
+                            @Value("${jwt.secret:}") String legacySecret,
+                            @Value("${jwt.cache.maximum-size:10000}") long maximumSize,
+                            @Value("${jwt.cache.max-ttl:5m}") Duration maxTtl) {
+        // auth-service used to sign with the base64-decoded secret (jjwt's String key convention)
+        Key legacyKey = legacySecret.isBlank() ? null
+                : new SecretKeySpec(Base64.getDecoder().decode(legacySecret), SignatureAlgorithm.HS512.getJcaName());
+        this.parser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        return resolveKey(header, keySource, legacyKey);
+                    }
+                })
+                .build();
+        this.revokedTokens = revokedTokens;
+        this.verified = maximumSize > 0 ? Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(untilTokenExpiry(maxTtl))
+                .build() : null;
+    }
+
+    /**
+     * Returns the token's identity, or throws JwtException if the token is invalid, expired or revoked
+     */
+    public VerifiedToken verify(String token) {
+        VerifiedToken result = verifySignature(token);
+        if (revokedTokens.isRevoked(result.tokenId())) {
+            throw new JwtException("Token has been revoked");
+        }
+        return result;
+    }
+
+    private VerifiedToken verifySignature(String token) {
+        if (verified == null) {
+            return parse(token);
+        }
+        String key = digest(token);
+        VerifiedToken cached = verified.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        VerifiedToken parsed = parse(token);
+        verified.put(key, parsed);
+        return parsed;
+    }
+
+    private VerifiedToken parse(String token) {
+        Claims claims = parser.parseClaimsJws(token).getBody();
+        if (claims.getSubject() == null) {
+            throw new JwtException("Token has no subject");
+        }
+        Instant expiresAt = claims.getExpiration() != null ? claims.getExpiration().toInstant() : null;
+        return new VerifiedToken(claims.getSubject(), claims.get("role", String.class), claims.getId(), expiresAt);
+    }
+
+    /**
+     * Picks the key by algorithm family first, so an RSA public key can never be used as an HMAC secret
+     */
+    private static Key resolveKey(JwsHeader header, JwksKeySource keySource, Key legacyKey) {
+        SignatureAlgorithm algorithm = SignatureAlgorithm.forName(header.getAlgorithm());
+        if (algorithm == SignatureAlgorithm.RS256) {
+            Key key = keySource.get(header.getKeyId());
+            if (key == null) {
+                throw new JwtException("Unknown signing key: " + header.getKeyId());
+            }
+            return key;
+        }
+        if (algorithm == SignatureAlgorithm.HS512 && legacyKey != null) {
+            return legacyKey;
+        }
+        throw new JwtException("Unsupported token algorithm: " + algorithm);
+    }
+
+    private static String digest(String token) {
+        byte[] hash = SHA_256.get().digest(token.getBytes(StandardCharsets.US_ASCII));
+        return Base64.getEncoder().encodeToString(hash);
+    }
+
+    private static Expiry<String, VerifiedToken> untilTokenExpiry(Duration maxTtl) {
+        return new Expiry<>() {
+            @Override
+            public long expireAfterCreate(String key, VerifiedToken token, long currentTime) {
+                if (token.expiresAt() == null) {
+                    return maxTtl.toNanos();
+                }
+                Duration remaining = Duration.between(Instant.now(), token.expiresAt());
+                return Math.max(0, Math.min(remaining.toNanos(), maxTtl.toNanos()));
+            }
+
+            @Override
+            public long expireAfterUpdate(String key, VerifiedToken token, long currentTime, long currentDuration) {
+                return expireAfterCreate(key, token, currentTime);
+            }
+
+            @Override
+            public long expireAfterRead(String key, VerifiedToken token, long currentTime, long currentDuration) {
+                return currentDuration;
+            }
+        };
+    }
+}
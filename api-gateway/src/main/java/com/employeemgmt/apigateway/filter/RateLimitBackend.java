@@ -0,0 +1,22 @@
+package com.employeemgmt.apigateway.filter;
+
+import com.employeemgmt.apigateway.config.RateLimitProperties;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * Where token buckets live. InMemoryRateLimitBackend keeps them per gateway instance; a shared store
+ * (Redis, Hazelcast, ...) can be plugged in by declaring a @Primary bean of this type, which makes the
+ * limits global across instances.
+ */
+public interface RateLimitBackend {
+
+    /**
+     * Outcome of taking one token; retryAfter is zero when allowed
+     */
+    record Decision(boolean allowed, Duration retryAfter) {
+    }
+
+    Mono<Decision> tryAcquire(String key, RateLimitProperties.Limit limit);
+}
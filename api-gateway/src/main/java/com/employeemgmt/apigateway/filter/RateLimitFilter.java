@@ -0,0 +1,80 @@
+package com.employeemgmt.apigateway.filter;
+
+import com.employeemgmt.apigateway.config.RateLimitProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Token-bucket rate limiting per route and caller
+ * Authenticated callers are keyed by the subject JwtAuthenticationFilter verified (so this filter must
+ * come after it on JWT routes), everyone else by client IP. Client-sent X-User-Id headers are never
+ * trusted. Rejected requests get 429 with Retry-After in whole seconds.
+ */
+@Component
+public class RateLimitFilter implements GatewayFilter {
+
+    private final RateLimitBackend backend;
+    private final RateLimitProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Counter[]> counters = new ConcurrentHashMap<>();
+
+    public RateLimitFilter(RateLimitBackend backend, RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.backend = backend;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        if (!properties.enabled()) {
+            return chain.filter(exchange);
+        }
+
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        String routeId = route != null ? route.getId() : "unknown";
+        JwtTokenVerifier.VerifiedToken caller = exchange.getAttribute(JwtAuthenticationFilter.VERIFIED_TOKEN_ATTR);
+        String key = routeId + (caller != null ? "|user:" + caller.subject() : "|ip:" + clientIp(exchange.getRequest()));
+        RateLimitProperties.Limit limit = properties.limitFor(routeId, caller != null ? caller.role() : null);
+
+        return backend.tryAcquire(key, limit).flatMap(decision -> {
+            Counter[] routeCounters = counters.computeIfAbsent(routeId, this::registerCounters);
+            if (decision.allowed()) {
+                routeCounters[0].increment();
+                return chain.filter(exchange);
+            }
+            routeCounters[1].increment();
+            long retryAfterSeconds = Math.max(1, (decision.retryAfter().toMillis() + 999) / 1000);
+            exchange.getResponse().setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+            exchange.getResponse().getHeaders().set(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+            return exchange.getResponse().setComplete();
+        });
+    }
+
+    private Counter[] registerCounters(String routeId) {
+        return new Counter[]{
+                Counter.builder("gateway.rate-limit.requests").tag("route", routeId).tag("outcome", "allowed")
+                        .register(meterRegistry),
+                Counter.builder("gateway.rate-limit.requests").tag("route", routeId).tag("outcome", "rejected")
+                        .register(meterRegistry)
+        };
+    }
+
+    private static String clientIp(ServerHttpRequest request) {
+        InetSocketAddress remote = request.getRemoteAddress();
+        return remote != null && remote.getAddress() != null ? remote.getAddress().getHostAddress() : "unknown";
+    }
+}
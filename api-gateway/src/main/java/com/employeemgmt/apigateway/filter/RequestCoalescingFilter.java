@@ -0,0 +1,196 @@
+package com.employeemgmt.apigateway.filter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Single-flight for GET requests: while one request is upstream, identical requests wait for its
+ * response instead of making their own call.
+ * Requests are identical when route, path, query, Accept and authorization scope match. The scope is
+ * the role for roles whose reads do not depend on who asks (gateway.coalescing.shared-roles), and
+ * role plus user id for everyone else, since employee-service narrows EMPLOYEE reads to the caller.
+ * Conditional and range requests are never coalesced. Only responses up to max-body-size that are
+ * not streamed are shared; otherwise waiting requests fall back to their own upstream call.
+ * Must run after JwtAuthenticationFilter (and RateLimitFilter, so followers are still limited).
+ */
+@Component
+public class RequestCoalescingFilter implements GatewayFilter {
+
+    private static final Set<String> UNSHARED_HEADERS = Set.of(
+            HttpHeaders.SET_COOKIE, HttpHeaders.CONTENT_LENGTH, HttpHeaders.TRANSFER_ENCODING, HttpHeaders.CONNECTION);
+
+    private record SharedResponse(HttpStatusCode status, HttpHeaders headers, byte[] body) {
+    }
+
+    private final ConcurrentMap<String, CompletableFuture<SharedResponse>> inFlight = new ConcurrentHashMap<>();
+    private final boolean enabled;
+    private final Set<String> sharedRoles;
+    private final int maxBodySize;
+    private final Counter leaders;
+    private final Counter followers;
+    private final Counter fallbacks;
+
+    public RequestCoalescingFilter(MeterRegistry meterRegistry,
+                                   @Value("${gateway.coalescing.enabled:true}") boolean enabled,
+                                   @Value("${gateway.coalescing.shared-roles:ADMIN,MANAGER}") List<String> sharedRoles,
+                                   @Value("${gateway.coalescing.max-body-size:1MB}") DataSize maxBodySize) {
+        this.enabled = enabled;
+        this.sharedRoles = Set.copyOf(sharedRoles);
+        this.maxBodySize = (int) maxBodySize.toBytes();
+        this.leaders = counter(meterRegistry, "upstream");
+        this.followers = counter(meterRegistry, "coalesced");
+        this.fallbacks = counter(meterRegistry, "fallback");
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        String key = enabled ? key(exchange) : null;
+        if (key == null) {
+            return chain.filter(exchange);
+        }
+
+        CompletableFuture<SharedResponse> flight = new CompletableFuture<>();
+        CompletableFuture<SharedResponse> leader = inFlight.putIfAbsent(key, flight);
+        if (leader != null) {
+            return Mono.fromFuture(leader, true)
+                    .doOnNext(response -> followers.increment())
+                    .flatMap(response -> write(exchange.getResponse(), response))
+                    .onErrorResume(e -> {
+                        fallbacks.increment();
+                        return chain.filter(exchange);
+                    });
+        }
+
+        leaders.increment();
+        ServerHttpResponse capturing = new CapturingResponse(exchange.getResponse(), key, flight);
+        return chain.filter(exchange.mutate().response(capturing).build())
+                .doFinally(signal -> finish(key, flight, null));
+    }
+
+    private String key(ServerWebExchange exchange) {
+        ServerHttpRequest request = exchange.getRequest();
+        HttpHeaders headers = request.getHeaders();
+        JwtTokenVerifier.VerifiedToken caller = exchange.getAttribute(JwtAuthenticationFilter.VERIFIED_TOKEN_ATTR);
+        if (request.getMethod() != HttpMethod.GET || caller == null
+                || headers.containsKey(HttpHeaders.IF_NONE_MATCH) || headers.containsKey(HttpHeaders.IF_MODIFIED_SINCE)
+                || headers.containsKey(HttpHeaders.RANGE)) {
+            return null;
+        }
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        String scope = sharedRoles.contains(caller.role()) ? "role:" + caller.role()
+                : "role:" + caller.role() + "|user:" + caller.subject();
+        return (route != null ? route.getId() : "") + '|' + scope
+                + '|' + request.getURI().getRawPath() + '?' + request.getURI().getRawQuery()
+                + '|' + headers.getFirst(HttpHeaders.ACCEPT);
+    }
+
+    /**
+     * Hands the response (or null when it could not be shared) to waiting requests; the first call wins
+     */
+    private void finish(String key, CompletableFuture<SharedResponse> flight, SharedResponse response) {
+        // Leave the map first so requests arriving from now on start a fresh upstream call
+        inFlight.remove(key, flight);
+        if (response != null) {
+            flight.complete(response);
+        } else {
+            flight.completeExceptionally(new IllegalStateException("Response not shareable"));
+        }
+    }
+
+    private static Mono<Void> write(ServerHttpResponse response, SharedResponse shared) {
+        response.setStatusCode(shared.status());
+        response.getHeaders().addAll(shared.headers());
+        response.getHeaders().setContentLength(shared.body().length);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(shared.body())));
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("gateway.coalescing.requests").tag("outcome", outcome).register(meterRegistry);
+    }
+
+    /**
+     * Passes the leader's response through unchanged while keeping a copy for its followers
+     */
+    private final class CapturingResponse extends ServerHttpResponseDecorator {
+
+        private final String key;
+        private final CompletableFuture<SharedResponse> flight;
+
+        CapturingResponse(ServerHttpResponse delegate, String key, CompletableFuture<SharedResponse> flight) {
+            super(delegate);
+            this.key = key;
+            this.flight = flight;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            ByteArrayOutputStream copy = new ByteArrayOutputStream();
+            boolean[] overflow = new boolean[1];
+            Flux<DataBuffer> teed = Flux.<DataBuffer>from(body).doOnNext(buffer -> {
+                if (!overflow[0] && copy.size() + buffer.readableByteCount() <= maxBodySize) {
+                    try (DataBuffer.ByteBufferIterator buffers = buffer.readableByteBuffers()) {
+                        while (buffers.hasNext()) {
+                            ByteBuffer next = buffers.next();
+                            byte[] bytes = new byte[next.remaining()];
+                            next.get(bytes);
+                            copy.writeBytes(bytes);
+                        }
+                    }
+                } else {
+                    overflow[0] = true;
+                }
+            }).doOnComplete(() -> finish(key, flight, overflow[0] ? null : snapshot(copy.toByteArray())));
+            return super.writeWith(teed);
+        }
+
+        @Override
+        public Mono<Void> writeAndFlushWith(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+            // Streamed responses are not buffered for sharing
+            finish(key, flight, null);
+            return super.writeAndFlushWith(body);
+        }
+
+        @Override
+        public Mono<Void> setComplete() {
+            return super.setComplete().doOnSuccess(done -> finish(key, flight, snapshot(new byte[0])));
+        }
+
+        private SharedResponse snapshot(byte[] body) {
+            HttpHeaders headers = new HttpHeaders();
+            getHeaders().forEach((name, values) -> {
+                if (UNSHARED_HEADERS.stream().noneMatch(name::equalsIgnoreCase)) {
+                    headers.addAll(name, values);
+                }
+            });
+            HttpStatusCode status = getStatusCode();
+            return new SharedResponse(status != null ? status : HttpStatus.OK, headers, body);
+        }
+    }
+}
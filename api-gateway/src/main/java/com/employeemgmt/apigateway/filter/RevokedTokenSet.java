@@ -0,0 +1,102 @@
+package com.employeemgmt.apigateway.filter;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Ids (jti) of access tokens revoked before expiry, polled from auth-service's revocation list
+ * Checked on every request, so lookups stay in memory: a small Bloom filter answers the common
+ * "not revoked" case from a few cache lines, and only its hits go to the exact set, which rules
+ * out false positives. Both are rebuilt together on each poll and swapped in as one snapshot.
+ * A revocation takes effect at the gateway within one refresh interval.
+ */
+@Component
+public class RevokedTokenSet {
+
+    private static final Logger logger = LoggerFactory.getLogger(RevokedTokenSet.class);
+
+    private record Snapshot(BloomFilter filter, Set<String> exact) {
+    }
+
+    private static final Snapshot EMPTY = new Snapshot(null, Set.of());
+
+    private final WebClient webClient;
+    private final ObjectMapper objectMapper;
+    private final String revocationsUri;
+    private final Duration refreshInterval;
+
+    private volatile Snapshot snapshot = EMPTY;
+    private Disposable poller;
+
+    public RevokedTokenSet(WebClient.Builder webClientBuilder,
+                           ObjectMapper objectMapper,
+                           @Value("${jwt.revocations.uri:lb://auth-service/auth/revocations}") String revocationsUri,
+                           @Value("${jwt.revocations.refresh-interval:30s}") Duration refreshInterval) {
+        this.webClient = webClientBuilder.build();
+        this.objectMapper = objectMapper;
+        this.revocationsUri = revocationsUri;
+        this.refreshInterval = refreshInterval;
+    }
+
+    @PostConstruct
+    void start() {
+        poller = Flux.interval(Duration.ZERO, refreshInterval)
+                .onBackpressureDrop()
+                .concatMap(tick -> fetch())
+                .subscribe();
+    }
+
+    @PreDestroy
+    void stop() {
+        poller.dispose();
+    }
+
+    public boolean isRevoked(String jti) {
+        Snapshot current = snapshot;
+        return jti != null && current.filter() != null
+                && current.filter().mightContain(jti) && current.exact().contains(jti);
+    }
+
+    /**
+     * Replaces the revoked ids with those in a revocation list document ({"jtis": [...]})
+     */
+    public void update(String revocationsJson) throws IOException {
+        Set<String> jtis = new HashSet<>();
+        for (JsonNode jti : objectMapper.readTree(revocationsJson).path("jtis")) {
+            jtis.add(jti.asText());
+        }
+        snapshot = jtis.isEmpty() ? EMPTY : new Snapshot(BloomFilter.of(jtis, 0.01), Set.copyOf(jtis));
+        logger.debug("Loaded {} revoked token ids", jtis.size());
+    }
+
+    private Mono<Void> fetch() {
+        return webClient.get().uri(revocationsUri)
+                .retrieve()
+                .bodyToMono(String.class)
+                .flatMap(body -> Mono.fromCallable(() -> {
+                    update(body);
+                    return body;
+                }))
+                .onErrorResume(e -> {
+                    logger.warn("Could not refresh revoked tokens from {}, keeping {} known: {}",
+                            revocationsUri, snapshot.exact().size(), e.getMessage());
+                    return Mono.empty();
+                })
+                .then();
+    }
+}
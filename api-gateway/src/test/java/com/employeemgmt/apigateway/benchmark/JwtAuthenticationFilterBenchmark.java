@@ -0,0 +1,127 @@
+package com.employeemgmt.apigateway.benchmark;
+
+import com.employeemgmt.apigateway.filter.JwksKeySource;
+import com.employeemgmt.apigateway.filter.JwtAuthenticationFilter;
+import com.employeemgmt.apigateway.filter.JwtTokenVerifier;
+import com.employeemgmt.apigateway.filter.RevokedTokenSet;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import javax.crypto.SecretKey;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request CPU cost of JWT authentication in the gateway, for a client repeating one token
+ * legacyParse is the original HS512 code path (parser rebuilt and signature checked per request);
+ * verify is the RS256 token check alone and filter runs JwtAuthenticationFilter end to end (including
+ * building the mock exchange), both with the verified-token cache on or off.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final String SECRET =
+            "Z2F0ZXdheS10ZXN0LXNlY3JldC1nYXRld2F5LXRlc3Qtc2VjcmV0LWdhdGV3YXktdGVzdC1zZWNyZXQtZ2F0ZXdheS10ZXN0LXNlY3JldC0=";
+    private static final GatewayFilterChain CHAIN = exchange -> Mono.empty();
+
+    @Param({"true", "false"})
+    private boolean cache;
+
+    private SecretKey legacyKey;
+    private String legacyToken;
+    private String token;
+    private JwtTokenVerifier verifier;
+    private JwtAuthenticationFilter filter;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        Date expiresAt = new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1));
+        legacyKey = Keys.hmacShaKeyFor(Base64.getDecoder().decode(SECRET));
+        legacyToken = Jwts.builder()
+                .setSubject("dashboard")
+                .claim("role", "ADMIN")
+                .setExpiration(expiresAt)
+                .signWith(legacyKey, SignatureAlgorithm.HS512)
+                .compact();
+
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        KeyPair key = generator.generateKeyPair();
+        token = Jwts.builder()
+                .setHeaderParam("kid", "bench")
+                .setId(UUID.randomUUID().toString())
+                .setSubject("dashboard")
+                .claim("role", "ADMIN")
+                .setExpiration(expiresAt)
+                .signWith(key.getPrivate(), SignatureAlgorithm.RS256)
+                .compact();
+
+        RSAPublicKey publicKey = (RSAPublicKey) key.getPublic();
+        Base64.Encoder base64Url = Base64.getUrlEncoder().withoutPadding();
+        JwksKeySource keySource = new JwksKeySource(WebClient.builder(), new ObjectMapper(), "http://localhost:0/jwks",
+                Duration.ofMinutes(5), Duration.ofMinutes(5));
+        keySource.update("{\"keys\":[{\"kty\":\"RSA\",\"kid\":\"bench\""
+                + ",\"n\":\"" + base64Url.encodeToString(publicKey.getModulus().toByteArray()) + "\""
+                + ",\"e\":\"" + base64Url.encodeToString(publicKey.getPublicExponent().toByteArray()) + "\"}]}");
+        // A realistic revocation list, so the per-request revocation check is part of the measurement
+        RevokedTokenSet revokedTokens = new RevokedTokenSet(WebClient.builder(), new ObjectMapper(),
+                "http://localhost:0/revocations", Duration.ofMinutes(5));
+        StringBuilder jtis = new StringBuilder("{\"jtis\":[");
+        for (int i = 0; i < 10_000; i++) {
+            jtis.append(i == 0 ? "" : ",").append('"').append(UUID.randomUUID()).append('"');
+        }
+        revokedTokens.update(jtis.append("]}").toString());
+        verifier = new JwtTokenVerifier(keySource, revokedTokens, "", cache ? 10_000 : 0, Duration.ofMinutes(5));
+        filter = new JwtAuthenticationFilter(verifier);
+    }
+
+    @Benchmark
+    public Claims legacyParse() {
+        return Jwts.parserBuilder().setSigningKey(legacyKey).build().parseClaimsJws(legacyToken).getBody();
+    }
+
+    @Benchmark
+    public JwtTokenVerifier.VerifiedToken verify() {
+        return verifier.verify(token);
+    }
+
+    @Benchmark
+    public MockServerWebExchange filter() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/employees/1")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token));
+        filter.filter(exchange, CHAIN).block();
+        return exchange;
+    }
+}
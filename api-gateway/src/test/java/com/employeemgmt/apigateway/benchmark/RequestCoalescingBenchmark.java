@@ -0,0 +1,102 @@
+package com.employeemgmt.apigateway.benchmark;
+
+import com.employeemgmt.apigateway.filter.JwtAuthenticationFilter;
+import com.employeemgmt.apigateway.filter.JwtTokenVerifier;
+import com.employeemgmt.apigateway.filter.RequestCoalescingFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.util.unit.DataSize;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Synthetic morning-peak burst: 64 GETs arrive together for two department listings from managers
+ * and admins, and the upstream takes 5ms to answer. upstreamCalls / bursts is the number of requests
+ * employee-service sees per burst (64 without coalescing, one per path and scope with it).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RequestCoalescingBenchmark {
+
+    private static final int BURST = 64;
+    private static final List<String> PATHS = List.of("/departments", "/employees/department/1");
+    private static final List<JwtTokenVerifier.VerifiedToken> CALLERS = List.of(
+            new JwtTokenVerifier.VerifiedToken("manager1", "MANAGER", "a", Instant.MAX),
+            new JwtTokenVerifier.VerifiedToken("manager2", "MANAGER", "b", Instant.MAX),
+            new JwtTokenVerifier.VerifiedToken("admin", "ADMIN", "c", Instant.MAX));
+    private static final byte[] BODY = "[{\"id\":1,\"name\":\"Engineering\"}]".getBytes(StandardCharsets.UTF_8);
+
+    @Param({"true", "false"})
+    private boolean coalescing;
+
+    private RequestCoalescingFilter filter;
+    private GatewayFilterChain upstream;
+    private Counters counters;
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Counters {
+        public long upstreamCalls;
+        public long bursts;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            upstreamCalls = 0;
+            bursts = 0;
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        filter = new RequestCoalescingFilter(new SimpleMeterRegistry(), coalescing, List.of("ADMIN", "MANAGER"),
+                DataSize.ofKilobytes(64));
+        upstream = exchange -> {
+            counters.upstreamCalls++;
+            return Mono.delay(Duration.ofMillis(5)).then(Mono.defer(() -> {
+                exchange.getResponse().setStatusCode(HttpStatus.OK);
+                return exchange.getResponse().writeWith(Mono.just(exchange.getResponse().bufferFactory().wrap(BODY)));
+            }));
+        };
+    }
+
+    @Benchmark
+    public void burst(Counters counters) {
+        this.counters = counters;
+        counters.bursts++;
+        Flux.range(0, BURST)
+                .flatMap(i -> {
+                    MockServerWebExchange exchange = MockServerWebExchange.from(
+                            MockServerHttpRequest.get(PATHS.get(i % PATHS.size())));
+                    exchange.getAttributes().put(JwtAuthenticationFilter.VERIFIED_TOKEN_ATTR,
+                            CALLERS.get(i % CALLERS.size()));
+                    return filter.filter(exchange, upstream);
+                }, BURST)
+                .blockLast();
+    }
+}
@@ -0,0 +1,74 @@
+package com.employeemgmt.apigateway.filter;
+
+import com.employeemgmt.apigateway.config.RateLimitProperties;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryRateLimitBackendTest {
+
+    private static final RateLimitProperties PROPERTIES =
+            new RateLimitProperties(true, new RateLimitProperties.Limit(50, 100), 1000, Map.of());
+
+    private final AtomicLong clock = new AtomicLong(1_000_000_000L);
+    private final InMemoryRateLimitBackend backend = new InMemoryRateLimitBackend(PROPERTIES, clock::get);
+
+    @Test
+    void shouldAllowBurstThenRejectUntilTokensRefill() {
+        // Given: 10 requests per second, bursts of 5
+        RateLimitProperties.Limit limit = new RateLimitProperties.Limit(10, 5);
+        for (int i = 0; i < 5; i++) {
+            assertThat(backend.acquire("user:1", limit).allowed()).isTrue();
+        }
+
+        // When
+        RateLimitBackend.Decision rejected = backend.acquire("user:1", limit);
+
+        // Then
+        assertThat(rejected.allowed()).isFalse();
+        assertThat(rejected.retryAfter()).isEqualTo(Duration.ofMillis(100));
+        assertThat(backend.acquire("user:2", limit).allowed()).isTrue();
+
+        clock.addAndGet(Duration.ofMillis(100).toNanos());
+        assertThat(backend.acquire("user:1", limit).allowed()).isTrue();
+        assertThat(backend.acquire("user:1", limit).allowed()).isFalse();
+    }
+
+    @Test
+    void shouldNeverGrantMoreThanBurstUnderContention() throws Exception {
+        // Given
+        RateLimitProperties.Limit limit = new RateLimitProperties.Limit(1, 100);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<Integer>> results = new ArrayList<>();
+
+        // When
+        for (int t = 0; t < 8; t++) {
+            results.add(executor.submit(() -> {
+                int granted = 0;
+                for (int i = 0; i < 1000; i++) {
+                    if (backend.acquire("shared", limit).allowed()) {
+                        granted++;
+                    }
+                }
+                return granted;
+            }));
+        }
+        int granted = 0;
+        for (Future<Integer> result : results) {
+            granted += result.get();
+        }
+        executor.shutdown();
+
+        // Then
+        assertThat(granted).isEqualTo(100);
+    }
+}
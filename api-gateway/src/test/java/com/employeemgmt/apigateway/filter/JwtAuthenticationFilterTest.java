@@ -0,0 +1,47 @@
+package com.employeemgmt.apigateway.filter;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class JwtAuthenticationFilterTest {
+
+    private static final GatewayFilterChain CHAIN = exchange -> {
+        exchange.getResponse().setStatusCode(HttpStatus.OK);
+        return Mono.empty();
+    };
+
+    private final JwtTokenVerifier tokenVerifier = mock(JwtTokenVerifier.class);
+    private final JwtAuthenticationFilter filter = new JwtAuthenticationFilter(tokenVerifier);
+
+    @Test
+    void shouldLetOpenAuthEndpointsThroughWithoutToken() {
+        // When & Then
+        assertThat(call("/auth/login")).isEqualTo(HttpStatus.OK);
+        assertThat(call("/auth/refresh")).isEqualTo(HttpStatus.OK);
+        assertThat(call("/api/auth/logout")).isEqualTo(HttpStatus.OK);
+        verifyNoInteractions(tokenVerifier);
+    }
+
+    @Test
+    void shouldAuthenticatePathsThatOnlyContainAnAuthEndpoint() {
+        // When & Then
+        assertThat(call("/employees/auth/login")).isEqualTo(HttpStatus.UNAUTHORIZED);
+        assertThat(call("/employees/search/auth/refresh")).isEqualTo(HttpStatus.UNAUTHORIZED);
+        assertThat(call("/auth/logout/../../employees")).isEqualTo(HttpStatus.UNAUTHORIZED);
+        assertThat(call("/auth/registered-users")).isEqualTo(HttpStatus.UNAUTHORIZED);
+    }
+
+    private HttpStatus call(String path) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.post(path));
+        filter.filter(exchange, CHAIN).block();
+        return HttpStatus.valueOf(exchange.getResponse().getStatusCode().value());
+    }
+}
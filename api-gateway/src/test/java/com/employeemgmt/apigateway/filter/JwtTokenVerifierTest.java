@@ -0,0 +1,151 @@
+package com.employeemgmt.apigateway.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import javax.crypto.spec.SecretKeySpec;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtTokenVerifierTest {
+
+    private static final String SECRET =
+            "Z2F0ZXdheS10ZXN0LXNlY3JldC1nYXRld2F5LXRlc3Qtc2VjcmV0LWdhdGV3YXktdGVzdC1zZWNyZXQtZ2F0ZXdheS10ZXN0LXNlY3JldC0=";
+
+    private KeyPair currentKey;
+    private KeyPair nextKey;
+    private JwksKeySource keySource;
+    private RevokedTokenSet revokedTokens;
+    private JwtTokenVerifier verifier;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        currentKey = generator.generateKeyPair();
+        nextKey = generator.generateKeyPair();
+
+        keySource = new JwksKeySource(WebClient.builder(), new ObjectMapper(), "http://localhost:0/jwks",
+                Duration.ofMinutes(5), Duration.ofHours(1));
+        keySource.update(jwks(jwk("current", currentKey)));
+        revokedTokens = new RevokedTokenSet(WebClient.builder(), new ObjectMapper(), "http://localhost:0/revocations",
+                Duration.ofMinutes(5));
+        verifier = new JwtTokenVerifier(keySource, revokedTokens, "", 100, Duration.ofMinutes(5));
+    }
+
+    @Test
+    void shouldVerifyTokenOnceAndServeRepeatsFromCache() {
+        // Given
+        String token = rsaToken("current", currentKey, Duration.ofMinutes(10));
+
+        // When
+        JwtTokenVerifier.VerifiedToken first = verifier.verify(token);
+        JwtTokenVerifier.VerifiedToken second = verifier.verify(token);
+
+        // Then
+        assertThat(first.subject()).isEqualTo("admin");
+        assertThat(first.role()).isEqualTo("ADMIN");
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    void shouldAcceptRotatedKeyOnceItIsPublished() throws Exception {
+        // Given
+        String token = rsaToken("next", nextKey, Duration.ofMinutes(10));
+        assertThatThrownBy(() -> verifier.verify(token)).isInstanceOf(JwtException.class);
+
+        // When
+        keySource.update(jwks(jwk("current", currentKey) + "," + jwk("next", nextKey)));
+
+        // Then
+        assertThat(verifier.verify(token).subject()).isEqualTo("admin");
+        assertThat(verifier.verify(rsaToken("current", currentKey, Duration.ofMinutes(10))).subject()).isEqualTo("admin");
+    }
+
+    @Test
+    void shouldRejectTamperedExpiredAndMisattributedTokens() {
+        // Given
+        String token = rsaToken("current", currentKey, Duration.ofMinutes(10));
+        String tampered = token.substring(0, token.length() - 4) + "AAAA";
+        String expired = rsaToken("current", currentKey, Duration.ofMinutes(-1));
+        String wrongKey = rsaToken("current", nextKey, Duration.ofMinutes(10));
+        verifier.verify(token);
+
+        // When & Then
+        assertThatThrownBy(() -> verifier.verify(tampered)).isInstanceOf(JwtException.class);
+        assertThatThrownBy(() -> verifier.verify(expired)).isInstanceOf(JwtException.class);
+        assertThatThrownBy(() -> verifier.verify(wrongKey)).isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    void shouldRejectRevokedTokenEvenWhenCached() throws Exception {
+        // Given
+        String token = Jwts.builder()
+                .setHeaderParam("kid", "current")
+                .setId("revoked-jti")
+                .setSubject("admin")
+                .claim("role", "ADMIN")
+                .setExpiration(new Date(System.currentTimeMillis() + 600_000))
+                .signWith(currentKey.getPrivate(), SignatureAlgorithm.RS256)
+                .compact();
+        assertThat(verifier.verify(token).tokenId()).isEqualTo("revoked-jti");
+
+        // When
+        revokedTokens.update("{\"jtis\":[\"other-jti\",\"revoked-jti\"]}");
+
+        // Then
+        assertThatThrownBy(() -> verifier.verify(token)).isInstanceOf(JwtException.class);
+        assertThat(verifier.verify(rsaToken("current", currentKey, Duration.ofMinutes(10))).subject()).isEqualTo("admin");
+    }
+
+    @Test
+    void shouldAcceptLegacyHmacTokensOnlyWhileSecretIsConfigured() {
+        // Given
+        String token = Jwts.builder()
+                .setSubject("employee")
+                .claim("role", "EMPLOYEE")
+                .setExpiration(new Date(System.currentTimeMillis() + 600_000))
+                .signWith(new SecretKeySpec(Base64.getDecoder().decode(SECRET), "HmacSHA512"), SignatureAlgorithm.HS512)
+                .compact();
+        JwtTokenVerifier legacy = new JwtTokenVerifier(keySource, revokedTokens, SECRET, 0, Duration.ofMinutes(5));
+
+        // When & Then
+        assertThat(legacy.verify(token).role()).isEqualTo("EMPLOYEE");
+        assertThatThrownBy(() -> verifier.verify(token)).isInstanceOf(JwtException.class);
+    }
+
+    private static String rsaToken(String kid, KeyPair key, Duration validFor) {
+        return Jwts.builder()
+                .setHeaderParam("kid", kid)
+                .setSubject("admin")
+                .claim("role", "ADMIN")
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + validFor.toMillis()))
+                .signWith(key.getPrivate(), SignatureAlgorithm.RS256)
+                .compact();
+    }
+
+    static String jwk(String kid, KeyPair key) {
+        RSAPublicKey publicKey = (RSAPublicKey) key.getPublic();
+        Base64.Encoder base64Url = Base64.getUrlEncoder().withoutPadding();
+        return "{\"kty\":\"RSA\",\"alg\":\"RS256\",\"kid\":\"" + kid + "\""
+                + ",\"n\":\"" + base64Url.encodeToString(publicKey.getModulus().toByteArray()) + "\""
+                + ",\"e\":\"" + base64Url.encodeToString(publicKey.getPublicExponent().toByteArray()) + "\"}";
+    }
+
+    static String jwks(String keys) {
+        return "{\"keys\":[" + keys + "]}";
+    }
+}
@@ -0,0 +1,93 @@
+package com.employeemgmt.apigateway.filter;
+
+import com.employeemgmt.apigateway.config.RateLimitProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.time.Instant;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitFilterTest {
+
+    private static final GatewayFilterChain CHAIN = exchange -> {
+        exchange.getResponse().setStatusCode(HttpStatus.OK);
+        return Mono.empty();
+    };
+
+    private final RateLimitProperties properties = new RateLimitProperties(true,
+            new RateLimitProperties.Limit(1, 2), 1000, Map.of(
+            "employee-service-employees", new RateLimitProperties.RouteLimit(null, null,
+                    Map.of("ADMIN", new RateLimitProperties.Limit(1, 4)))));
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RateLimitFilter filter =
+            new RateLimitFilter(new InMemoryRateLimitBackend(properties), properties, meterRegistry);
+
+    @Test
+    void shouldLimitAnonymousCallersByIpIgnoringClaimedUserId() {
+        // Given: the client claims a different user id on every request
+        for (int i = 0; i < 2; i++) {
+            assertThat(call("auth-service", "10.0.0.1", "spoofed-" + i, null)).isEqualTo(HttpStatus.OK);
+        }
+
+        // When
+        MockServerWebExchange rejected = exchange("auth-service", "10.0.0.1", "spoofed-x", null);
+        filter.filter(rejected, CHAIN).block();
+
+        // Then
+        assertThat(rejected.getResponse().getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(rejected.getResponse().getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+        assertThat(call("auth-service", "10.0.0.2", null, null)).isEqualTo(HttpStatus.OK);
+        assertThat(meterRegistry.get("gateway.rate-limit.requests")
+                .tags("route", "auth-service", "outcome", "rejected").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldLimitAuthenticatedCallersPerUserWithRoleSpecificLimits() {
+        // Given
+        JwtTokenVerifier.VerifiedToken admin = new JwtTokenVerifier.VerifiedToken("admin", "ADMIN", "a", Instant.MAX);
+        JwtTokenVerifier.VerifiedToken employee = new JwtTokenVerifier.VerifiedToken("bob", "EMPLOYEE", "b", Instant.MAX);
+
+        // When & Then: same IP, separate buckets; ADMIN gets the larger burst
+        for (int i = 0; i < 4; i++) {
+            assertThat(call("employee-service-employees", "10.0.0.1", null, admin)).isEqualTo(HttpStatus.OK);
+        }
+        assertThat(call("employee-service-employees", "10.0.0.1", null, admin)).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        for (int i = 0; i < 2; i++) {
+            assertThat(call("employee-service-employees", "10.0.0.1", null, employee)).isEqualTo(HttpStatus.OK);
+        }
+        assertThat(call("employee-service-employees", "10.0.0.1", null, employee)).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+    }
+
+    private HttpStatus call(String routeId, String ip, String claimedUserId, JwtTokenVerifier.VerifiedToken caller) {
+        MockServerWebExchange exchange = exchange(routeId, ip, claimedUserId, caller);
+        filter.filter(exchange, CHAIN).block();
+        return (HttpStatus) exchange.getResponse().getStatusCode();
+    }
+
+    private static MockServerWebExchange exchange(String routeId, String ip, String claimedUserId,
+                                                  JwtTokenVerifier.VerifiedToken caller) {
+        MockServerHttpRequest.BaseBuilder<?> request = MockServerHttpRequest.get("/api/test")
+                .remoteAddress(new InetSocketAddress(ip, 40000));
+        if (claimedUserId != null) {
+            request.header("X-User-Id", claimedUserId);
+        }
+        MockServerWebExchange exchange = MockServerWebExchange.from(request);
+        exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR,
+                Route.async().id(routeId).uri("http://localhost").predicate(e -> true).build());
+        if (caller != null) {
+            exchange.getAttributes().put(JwtAuthenticationFilter.VERIFIED_TOKEN_ATTR, caller);
+        }
+        return exchange;
+    }
+}
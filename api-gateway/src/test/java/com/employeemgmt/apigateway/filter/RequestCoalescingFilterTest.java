@@ -0,0 +1,148 @@
+package com.employeemgmt.apigateway.filter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.util.unit.DataSize;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestCoalescingFilterTest {
+
+    private static final JwtTokenVerifier.VerifiedToken MANAGER =
+            new JwtTokenVerifier.VerifiedToken("m1", "MANAGER", "j1", Instant.MAX);
+    private static final JwtTokenVerifier.VerifiedToken OTHER_MANAGER =
+            new JwtTokenVerifier.VerifiedToken("m2", "MANAGER", "j2", Instant.MAX);
+    private static final JwtTokenVerifier.VerifiedToken ADMIN =
+            new JwtTokenVerifier.VerifiedToken("a1", "ADMIN", "j3", Instant.MAX);
+    private static final JwtTokenVerifier.VerifiedToken EMPLOYEE =
+            new JwtTokenVerifier.VerifiedToken("e1", "EMPLOYEE", "j4", Instant.MAX);
+    private static final JwtTokenVerifier.VerifiedToken OTHER_EMPLOYEE =
+            new JwtTokenVerifier.VerifiedToken("e2", "EMPLOYEE", "j5", Instant.MAX);
+
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+    private final Sinks.Empty<Void> upstreamGate = Sinks.empty();
+    private final GatewayFilterChain upstream = exchange -> {
+        int call = upstreamCalls.incrementAndGet();
+        return upstreamGate.asMono().then(Mono.defer(() -> {
+            exchange.getResponse().setStatusCode(HttpStatus.OK);
+            exchange.getResponse().getHeaders().add("X-Upstream-Call", Integer.toString(call));
+            exchange.getResponse().getHeaders().add("Set-Cookie", "session=" + call);
+            byte[] body = "[{\"id\":1,\"name\":\"Engineering\"}]".getBytes(StandardCharsets.UTF_8);
+            return exchange.getResponse().writeWith(Mono.just(exchange.getResponse().bufferFactory().wrap(body)));
+        }));
+    };
+
+    private RequestCoalescingFilter filter(DataSize maxBodySize) {
+        return new RequestCoalescingFilter(new SimpleMeterRegistry(), true, List.of("ADMIN", "MANAGER"), maxBodySize);
+    }
+
+    @Test
+    void shouldCollapseIdenticalConcurrentGetsIntoOneUpstreamCall() {
+        // Given
+        RequestCoalescingFilter filter = filter(DataSize.ofKilobytes(64));
+        List<MockServerWebExchange> exchanges = new ArrayList<>();
+        List<Mono<Void>> pending = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            MockServerWebExchange exchange = exchange("/departments", i % 2 == 0 ? MANAGER : OTHER_MANAGER);
+            exchanges.add(exchange);
+            pending.add(filter.filter(exchange, upstream).cache());
+        }
+        pending.forEach(Mono::subscribe);
+
+        // When
+        upstreamGate.tryEmitEmpty();
+        pending.forEach(p -> p.block(Duration.ofSeconds(5)));
+
+        // Then
+        assertThat(upstreamCalls).hasValue(1);
+        for (MockServerWebExchange exchange : exchanges) {
+            assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(exchange.getResponse().getHeaders().getFirst("X-Upstream-Call")).isEqualTo("1");
+            assertThat(exchange.getResponse().getBodyAsString().block()).contains("Engineering");
+        }
+        assertThat(exchanges.get(1).getResponse().getHeaders().containsKey("Set-Cookie")).isFalse();
+    }
+
+    @Test
+    void shouldOnlyShareWithinTheSameAuthorizationScope() {
+        // Given: role-scoped for MANAGER/ADMIN, user-scoped for EMPLOYEE
+        RequestCoalescingFilter filter = filter(DataSize.ofKilobytes(64));
+        List<Mono<Void>> pending = new ArrayList<>();
+        for (JwtTokenVerifier.VerifiedToken caller : List.of(MANAGER, ADMIN, EMPLOYEE, EMPLOYEE, OTHER_EMPLOYEE)) {
+            pending.add(filter.filter(exchange("/employees/1", caller), upstream).cache());
+        }
+        pending.add(filter.filter(exchange("/employees/2", MANAGER), upstream).cache());
+        pending.forEach(Mono::subscribe);
+
+        // When
+        upstreamGate.tryEmitEmpty();
+        pending.forEach(p -> p.block(Duration.ofSeconds(5)));
+
+        // Then: MANAGER, ADMIN, EMPLOYEE e1 (twice, shared), EMPLOYEE e2, and the other path
+        assertThat(upstreamCalls).hasValue(5);
+    }
+
+    @Test
+    void shouldFallBackToOwnUpstreamCallWhenResponseIsTooLargeToShare() {
+        // Given
+        RequestCoalescingFilter filter = filter(DataSize.ofBytes(8));
+        List<MockServerWebExchange> exchanges = new ArrayList<>();
+        List<Mono<Void>> pending = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            MockServerWebExchange exchange = exchange("/departments", MANAGER);
+            exchanges.add(exchange);
+            pending.add(filter.filter(exchange, upstream).cache());
+        }
+        pending.forEach(Mono::subscribe);
+
+        // When
+        upstreamGate.tryEmitEmpty();
+        pending.forEach(p -> p.block(Duration.ofSeconds(5)));
+
+        // Then
+        assertThat(upstreamCalls).hasValue(3);
+        assertThat(exchanges).allSatisfy(exchange ->
+                assertThat(exchange.getResponse().getBodyAsString().block()).contains("Engineering"));
+    }
+
+    @Test
+    void shouldNotCoalesceConditionalOrSequentialRequests() {
+        // Given
+        RequestCoalescingFilter filter = filter(DataSize.ofKilobytes(64));
+        upstreamGate.tryEmitEmpty();
+
+        // When
+        filter.filter(exchange("/departments", MANAGER), upstream).block();
+        filter.filter(exchange("/departments", MANAGER), upstream).block();
+        MockServerWebExchange conditional = MockServerWebExchange.from(MockServerHttpRequest.get("/departments")
+                .header("If-None-Match", "\"v1\""));
+        conditional.getAttributes().put(JwtAuthenticationFilter.VERIFIED_TOKEN_ATTR, MANAGER);
+        filter.filter(conditional, upstream).block();
+
+        // Then: nothing is cached once a flight has landed
+        assertThat(upstreamCalls).hasValue(3);
+    }
+
+    private static MockServerWebExchange exchange(String path, JwtTokenVerifier.VerifiedToken caller) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get(path));
+        exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR,
+                Route.async().id("employee-service-departments").uri("http://localhost").predicate(e -> true).build());
+        exchange.getAttributes().put(JwtAuthenticationFilter.VERIFIED_TOKEN_ATTR, caller);
+        return exchange;
+    }
+}
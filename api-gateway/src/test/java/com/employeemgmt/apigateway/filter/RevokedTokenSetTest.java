@@ -0,0 +1,70 @@
+package com.employeemgmt.apigateway.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RevokedTokenSetTest {
+
+    private final RevokedTokenSet revokedTokens = new RevokedTokenSet(WebClient.builder(), new ObjectMapper(),
+            "http://localhost:0/revocations", Duration.ofMinutes(5));
+
+    @Test
+    void shouldReportExactlyTheRevokedIds() throws Exception {
+        // Given
+        List<String> revoked = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            revoked.add(UUID.randomUUID().toString());
+        }
+        revokedTokens.update(new ObjectMapper().writeValueAsString(Map.of("jtis", revoked)));
+
+        // When & Then
+        assertThat(revoked).allMatch(revokedTokens::isRevoked);
+        for (int i = 0; i < 5_000; i++) {
+            assertThat(revokedTokens.isRevoked(UUID.randomUUID().toString())).isFalse();
+        }
+        assertThat(revokedTokens.isRevoked(null)).isFalse();
+    }
+
+    @Test
+    void shouldForgetIdsDroppedFromTheLatestList() throws Exception {
+        // Given
+        revokedTokens.update("{\"jtis\":[\"a\",\"b\"]}");
+
+        // When
+        revokedTokens.update("{\"jtis\":[]}");
+
+        // Then
+        assertThat(revokedTokens.isRevoked("a")).isFalse();
+    }
+
+    @Test
+    void shouldKeepBloomFilterFalsePositivesNearConfiguredRate() {
+        // Given
+        List<String> members = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            members.add(UUID.randomUUID().toString());
+        }
+        BloomFilter filter = BloomFilter.of(members, 0.01);
+
+        // When
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain(UUID.randomUUID().toString())) {
+                falsePositives++;
+            }
+        }
+
+        // Then
+        assertThat(members).allMatch(filter::mightContain);
+        assertThat(falsePositives).isLessThan(2_000);
+    }
+}
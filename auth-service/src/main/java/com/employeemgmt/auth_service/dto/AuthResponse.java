@@ -11,4 +11,5 @@ public class AuthResponse {
     private String token;
     private String username;
     private String role;
+    private String refreshToken;
 }
\ No newline at end of file
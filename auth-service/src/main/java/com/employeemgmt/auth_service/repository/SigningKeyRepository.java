@@ -0,0 +1,11 @@
+package com.employeemgmt.authservice.repository;
+
+import com.employeemgmt.authservice.entity.SigningKey;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import java.util.List;
+
+@Repository
+public interface SigningKeyRepository extends JpaRepository<SigningKey, String> {
+    List<SigningKey> findAllByOrderByActivatesAtAsc();
+}
@@ -2,38 +2,52 @@ package com.employeemgmt.authservice.service;
 
 import com.employeemgmt.authservice.dto.AuthResponse;
 import com.employeemgmt.authservice.dto.LoginRequest;
+import com.employeemgmt.authservice.dto.RefreshRequest;
 import com.employeemgmt.authservice.dto.RegisterRequest;
 import com.employeemgmt.authservice.entity.User;
 import com.employeemgmt.authservice.repository.UserRepository;
 import com.employeemgmt.authservice.util.JwtUtil;
+import com.employeemgmt.authservice.util.PasswordHashingPool;
+import io.jsonwebtoken.Claims;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
 @Service
 public class AuthService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
+    private final RefreshTokenService refreshTokenService;
+    private final PasswordHashingPool passwordHashingPool;
 
     public AuthService(UserRepository userRepository,
                        PasswordEncoder passwordEncoder,
-                       JwtUtil jwtUtil) {
+                       JwtUtil jwtUtil,
+                       RefreshTokenService refreshTokenService,
+                       PasswordHashingPool passwordHashingPool) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.jwtUtil = jwtUtil;
+        this.refreshTokenService = refreshTokenService;
+        this.passwordHashingPool = passwordHashingPool;
     }
 
+    /**
+     * Only the BCrypt comparison runs on the hashing pool; the lookup and token issue stay on the caller's thread
+     */
     public AuthResponse login(LoginRequest request) {
         User user = userRepository.findByUsername(request.getUsername())
                 .orElseThrow(() -> new RuntimeException("Invalid credentials"));
 
-        if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
+        if (!passwordHashingPool.call(() -> passwordEncoder.matches(request.getPassword(), user.getPassword()))) {
             throw new RuntimeException("Invalid credentials");
         }
 
-        String token = jwtUtil.generateToken(user.getUsername(), user.getRole());
-        return new AuthResponse(token, user.getUsername(), user.getRole());
+        return issueTokens(user);
     }
 
     public AuthResponse register(RegisterRequest request) {
@@ -47,13 +61,42 @@ public class AuthService {
 
         User user = new User();
         user.setUsername(request.getUsername());
-        user.setPassword(passwordEncoder.encode(request.getPassword()));
+        user.setPassword(passwordHashingPool.call(() -> passwordEncoder.encode(request.getPassword())));
         user.setEmail(request.getEmail());
         user.setRole(request.getRole());
 
         user = userRepository.save(user);
 
+        return issueTokens(user);
+    }
+
+    /**
+     * Exchanges a refresh token for a new access and refresh token pair without checking the password
+     */
+    public AuthResponse refresh(RefreshRequest request) {
+        String username = refreshTokenService.consume(request.getRefreshToken());
+        User user = userRepository.findByUsername(username)
+                .orElseThrow(() -> new RuntimeException("Invalid refresh token"));
+        return issueTokens(user);
+    }
+
+    /**
+     * Revokes the refresh token and, when given, the access token presented with it
+     */
+    public void logout(RefreshRequest request, String accessToken) {
+        refreshTokenService.revoke(request.getRefreshToken());
+        if (accessToken != null && jwtUtil.isTokenValid(accessToken)) {
+            Claims claims = jwtUtil.extractClaims(accessToken);
+            if (claims.getId() != null) {
+                refreshTokenService.revokeAccessToken(claims.getId(),
+                        LocalDateTime.ofInstant(claims.getExpiration().toInstant(), ZoneId.systemDefault()));
+            }
+        }
+    }
+
+    private AuthResponse issueTokens(User user) {
         String token = jwtUtil.generateToken(user.getUsername(), user.getRole());
-        return new AuthResponse(token, user.getUsername(), user.getRole());
+        String refreshToken = refreshTokenService.issue(user.getUsername());
+        return new AuthResponse(token, user.getUsername(), user.getRole(), refreshToken);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,142 @@
+package com.employeemgmt.authservice.service;
+
+import com.employeemgmt.authservice.entity.RefreshToken;
+import com.employeemgmt.authservice.entity.RevokedToken;
+import com.employeemgmt.authservice.repository.RefreshTokenRepository;
+import com.employeemgmt.authservice.repository.RevokedTokenRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * Issues single-use refresh tokens and keeps the list of revoked access tokens.
+ * A refresh token is 256 random bits; only its SHA-256 is stored, so a database leak does not leak
+ * usable tokens, and lookups need no password hashing. Presenting an already used token is treated
+ * as theft: every outstanding refresh token of that user is revoked.
+ */
+@Service
+public class RefreshTokenService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RefreshTokenService.class);
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final SecureRandom random = new SecureRandom();
+
+    @Value("${jwt.refresh.expiration-ms:1209600000}")
+    private long refreshExpirationMs;
+
+    public RefreshTokenService(RefreshTokenRepository refreshTokenRepository,
+                               RevokedTokenRepository revokedTokenRepository) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.revokedTokenRepository = revokedTokenRepository;
+    }
+
+    /**
+     * Creates a refresh token for the user and returns its opaque value
+     */
+    @Transactional
+    public String issue(String username) {
+        byte[] raw = new byte[32];
+        random.nextBytes(raw);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(raw);
+
+        RefreshToken refreshToken = new RefreshToken();
+        refreshToken.setTokenHash(hash(token));
+        refreshToken.setUsername(username);
+        refreshToken.setExpiresAt(LocalDateTime.now().plusNanos(refreshExpirationMs * 1_000_000));
+        refreshTokenRepository.save(refreshToken);
+        return token;
+    }
+
+    /**
+     * Marks a refresh token used and returns its username; throws if it is unknown, expired or already used
+     * The token is claimed with a conditional update, so of two concurrent requests with the same token
+     * only one gets new tokens and the other is handled as reuse. Commits even when it throws, so
+     * revocations triggered by a reused token stick.
+     */
+    @Transactional(noRollbackFor = RuntimeException.class)
+    public String consume(String token) {
+        LocalDateTime now = LocalDateTime.now();
+        String tokenHash = hash(token);
+        RefreshToken refreshToken = refreshTokenRepository.findByTokenHash(tokenHash)
+                .orElseThrow(() -> new RuntimeException("Invalid refresh token"));
+
+        if (refreshToken.getRevokedAt() != null) {
+            throw reused(refreshToken.getUsername(), now);
+        }
+        if (refreshToken.getExpiresAt().isBefore(now)) {
+            throw new RuntimeException("Invalid refresh token");
+        }
+        if (refreshTokenRepository.markUsed(tokenHash, now) == 0) {
+            throw reused(refreshToken.getUsername(), now);
+        }
+        return refreshToken.getUsername();
+    }
+
+    /**
+     * Revokes a refresh token if it exists; unknown tokens are ignored so logout is idempotent
+     */
+    @Transactional
+    public void revoke(String token) {
+        refreshTokenRepository.findByTokenHash(hash(token))
+                .filter(refreshToken -> refreshToken.getRevokedAt() == null)
+                .ifPresent(refreshToken -> refreshToken.setRevokedAt(LocalDateTime.now()));
+    }
+
+    /**
+     * Adds an access token id to the revocation list until the token would have expired anyway
+     */
+    @Transactional
+    public void revokeAccessToken(String jti, LocalDateTime expiresAt) {
+        if (expiresAt.isAfter(LocalDateTime.now()) && !revokedTokenRepository.existsById(jti)) {
+            revokedTokenRepository.save(new RevokedToken(jti, expiresAt, null));
+        }
+    }
+
+    /**
+     * Ids of revoked access tokens that have not expired yet
+     */
+    @Transactional(readOnly = true)
+    public List<String> revokedAccessTokenIds() {
+        return revokedTokenRepository.findActiveJtis(LocalDateTime.now());
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.refresh.purge-interval-ms:3600000}")
+    @Transactional
+    public void purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        int refreshTokens = refreshTokenRepository.deleteExpired(now);
+        int revokedTokens = revokedTokenRepository.deleteExpired(now);
+        if (refreshTokens + revokedTokens > 0) {
+            logger.info("Purged {} expired refresh tokens and {} expired revocations", refreshTokens, revokedTokens);
+        }
+    }
+
+    private RuntimeException reused(String username, LocalDateTime now) {
+        int revoked = refreshTokenRepository.revokeAllByUsername(username, now);
+        logger.warn("Refresh token reused for user {}; revoked {} outstanding refresh tokens", username, revoked);
+        return new RuntimeException("Invalid refresh token");
+    }
+
+    static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
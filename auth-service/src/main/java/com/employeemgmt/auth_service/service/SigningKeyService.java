@@ -0,0 +1,272 @@
+package com.employeemgmt.authservice.service;
+
+import com.employeemgmt.authservice.entity.SigningKey;
+import com.employeemgmt.authservice.repository.SigningKeyRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.SecureRandom;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Rotates the RSA keys that sign access tokens and publishes their public halves as a JWKS.
+ * A new key is created activation-delay before it starts signing, so verifiers that poll the
+ * JWKS know it before the first token signed with it arrives. A superseded key stays published
+ * until every token it signed has expired, then it is deleted.
+ * Keys live in the database so every auth-service instance signs and publishes the same set; the
+ * private halves are encrypted there with AES-GCM under jwt.keys.encryption-key (base64, 32 bytes),
+ * which comes from the environment rather than the database.
+ */
+@Service
+public class SigningKeyService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SigningKeyService.class);
+
+    // Marks a private key encrypted by this service; rows written before encryption hold bare PKCS#8
+    static final String ENCRYPTED_PREFIX = "aes-gcm:";
+    private static final int GCM_IV_BYTES = 12;
+    private static final int GCM_TAG_BITS = 128;
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    /**
+     * A stored key with both halves decoded
+     */
+    public record LoadedKey(String kid, RSAPublicKey publicKey, PrivateKey privateKey, LocalDateTime activatesAt) {
+    }
+
+    private final SigningKeyRepository signingKeyRepository;
+
+    @Value("${jwt.expiration}")
+    private Long tokenExpirationMs;
+
+    @Value("${jwt.keys.rotation-interval-ms:86400000}")
+    private long rotationIntervalMs;
+
+    @Value("${jwt.keys.activation-delay-ms:900000}")
+    private long activationDelayMs;
+
+    @Value("${jwt.keys.encryption-key}")
+    private String encryptionKey;
+
+    private volatile List<LoadedKey> publishedKeys = List.of();
+
+    public SigningKeyService(SigningKeyRepository signingKeyRepository) {
+        this.signingKeyRepository = signingKeyRepository;
+    }
+
+    /**
+     * Creates the next key when rotation is due, deletes retired keys and reloads the published set
+     * Not one transaction: the insert of the next key runs on its own, so an instance that loses the
+     * race for a generation to another instance just reloads and publishes the winner's key.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${jwt.keys.refresh-interval-ms:60000}",
+            initialDelayString = "${jwt.keys.refresh-interval-ms:60000}")
+    public void refresh() {
+        LocalDateTime now = LocalDateTime.now();
+        List<SigningKey> stored = signingKeyRepository.findAllByOrderByActivatesAtAsc();
+
+        if (stored.isEmpty() || rotationDue(stored.get(stored.size() - 1), now)) {
+            // The very first key signs immediately; there is nothing in flight to protect
+            long generation = stored.isEmpty() ? 1 : stored.get(stored.size() - 1).getGeneration() + 1;
+            SigningKey next = generate(generation, stored.isEmpty() ? now : now.plusNanos(activationDelayMs * 1_000_000));
+            try {
+                signingKeyRepository.saveAndFlush(next);
+                logger.info("Created signing key {} active from {}", next.getKid(), next.getActivatesAt());
+            } catch (DataIntegrityViolationException e) {
+                logger.info("Another instance created signing key generation {}", generation);
+            }
+            stored = signingKeyRepository.findAllByOrderByActivatesAtAsc();
+        }
+
+        List<LoadedKey> published = new ArrayList<>();
+        List<SigningKey> retired = new ArrayList<>();
+        for (int i = 0; i < stored.size(); i++) {
+            SigningKey key = stored.get(i);
+            if (!key.getPrivateKey().startsWith(ENCRYPTED_PREFIX)) {
+                key.setPrivateKey(encrypt(key.getKid(), Base64.getDecoder().decode(key.getPrivateKey())));
+                signingKeyRepository.save(key);
+                logger.info("Encrypted stored private key of signing key {}", key.getKid());
+            }
+            LocalDateTime supersededAt = i + 1 < stored.size() && !stored.get(i + 1).getActivatesAt().isAfter(now)
+                    ? stored.get(i + 1).getActivatesAt() : null;
+            if (supersededAt == null || supersededAt.plusNanos(tokenExpirationMs * 1_000_000).isAfter(now)) {
+                published.add(load(key));
+            } else {
+                retired.add(key);
+            }
+        }
+        if (!retired.isEmpty()) {
+            signingKeyRepository.deleteAll(retired);
+            logger.info("Deleted {} retired signing keys", retired.size());
+        }
+        publishedKeys = List.copyOf(published);
+    }
+
+    /**
+     * The newest key whose activation time has passed
+     */
+    public LoadedKey currentSigningKey() {
+        if (publishedKeys.isEmpty()) {
+            refresh();
+        }
+        LocalDateTime now = LocalDateTime.now();
+        LoadedKey current = null;
+        for (LoadedKey key : publishedKeys) {
+            if (!key.activatesAt().isAfter(now)) {
+                current = key;
+            }
+        }
+        if (current == null) {
+            throw new IllegalStateException("No active signing key");
+        }
+        return current;
+    }
+
+    /**
+     * Public key for a kid, or null if the kid is unknown or retired
+     */
+    public RSAPublicKey publicKey(String kid) {
+        for (LoadedKey key : publishedKeys) {
+            if (key.kid().equals(kid)) {
+                return key.publicKey();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Published keys as a JSON Web Key Set (RFC 7517), including keys not yet active
+     */
+    public Map<String, Object> jwks() {
+        List<Map<String, Object>> keys = new ArrayList<>();
+        Base64.Encoder base64Url = Base64.getUrlEncoder().withoutPadding();
+        for (LoadedKey key : publishedKeys) {
+            Map<String, Object> jwk = new LinkedHashMap<>();
+            jwk.put("kty", "RSA");
+            jwk.put("use", "sig");
+            jwk.put("alg", "RS256");
+            jwk.put("kid", key.kid());
+            jwk.put("n", base64Url.encodeToString(unsigned(key.publicKey().getModulus().toByteArray())));
+            jwk.put("e", base64Url.encodeToString(unsigned(key.publicKey().getPublicExponent().toByteArray())));
+            keys.add(jwk);
+        }
+        return Map.of("keys", keys);
+    }
+
+    private boolean rotationDue(SigningKey newest, LocalDateTime now) {
+        LocalDateTime createNextAt = newest.getActivatesAt()
+                .plusNanos((rotationIntervalMs - activationDelayMs) * 1_000_000);
+        return !createNextAt.isAfter(now);
+    }
+
+    SigningKey generate(long generation, LocalDateTime activatesAt) {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+            generator.initialize(2048);
+            KeyPair pair = generator.generateKeyPair();
+            SigningKey key = new SigningKey();
+            key.setKid(UUID.randomUUID().toString());
+            key.setPublicKey(Base64.getEncoder().encodeToString(pair.getPublic().getEncoded()));
+            key.setPrivateKey(encrypt(key.getKid(), pair.getPrivate().getEncoded()));
+            key.setGeneration(generation);
+            key.setActivatesAt(activatesAt);
+            return key;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Cannot generate signing key", e);
+        }
+    }
+
+    private LoadedKey load(SigningKey key) {
+        try {
+            KeyFactory factory = KeyFactory.getInstance("RSA");
+            RSAPublicKey publicKey = (RSAPublicKey) factory.generatePublic(
+                    new X509EncodedKeySpec(Base64.getDecoder().decode(key.getPublicKey())));
+            PrivateKey privateKey = factory.generatePrivate(
+                    new PKCS8EncodedKeySpec(decrypt(key.getKid(), key.getPrivateKey())));
+            return new LoadedKey(key.getKid(), publicKey, privateKey, key.getActivatesAt());
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            throw new IllegalStateException("Cannot load signing key " + key.getKid(), e);
+        }
+    }
+
+    /**
+     * Prefix, then base64 of IV and ciphertext; the kid is bound in as associated data, so a private key
+     * copied onto another row fails to decrypt
+     */
+    private String encrypt(String kid, byte[] pkcs8) {
+        try {
+            byte[] iv = new byte[GCM_IV_BYTES];
+            RANDOM.nextBytes(iv);
+            Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+            cipher.init(Cipher.ENCRYPT_MODE, encryptionKey(), new GCMParameterSpec(GCM_TAG_BITS, iv));
+            cipher.updateAAD(kid.getBytes(StandardCharsets.UTF_8));
+            byte[] ciphertext = cipher.doFinal(pkcs8);
+            byte[] stored = new byte[iv.length + ciphertext.length];
+            System.arraycopy(iv, 0, stored, 0, iv.length);
+            System.arraycopy(ciphertext, 0, stored, iv.length, ciphertext.length);
+            return ENCRYPTED_PREFIX + Base64.getEncoder().encodeToString(stored);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Cannot encrypt signing key " + kid, e);
+        }
+    }
+
+    private byte[] decrypt(String kid, String storedKey) throws GeneralSecurityException {
+        if (!storedKey.startsWith(ENCRYPTED_PREFIX)) {
+            return Base64.getDecoder().decode(storedKey);
+        }
+        byte[] stored = Base64.getDecoder().decode(storedKey.substring(ENCRYPTED_PREFIX.length()));
+        if (stored.length <= GCM_IV_BYTES) {
+            throw new IllegalArgumentException("Encrypted private key is truncated");
+        }
+        Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+        cipher.init(Cipher.DECRYPT_MODE, encryptionKey(), new GCMParameterSpec(GCM_TAG_BITS, stored, 0, GCM_IV_BYTES));
+        cipher.updateAAD(kid.getBytes(StandardCharsets.UTF_8));
+        return cipher.doFinal(stored, GCM_IV_BYTES, stored.length - GCM_IV_BYTES);
+    }
+
+    private SecretKey encryptionKey() {
+        byte[] key = Base64.getDecoder().decode(encryptionKey.trim());
+        if (key.length != 32) {
+            throw new IllegalStateException("jwt.keys.encryption-key must be 32 bytes, base64 encoded");
+        }
+        return new SecretKeySpec(key, "AES");
+    }
+
+    /**
+     * Big-endian magnitude without the sign byte BigInteger adds when the top bit is set
+     */
+    private static byte[] unsigned(byte[] bytes) {
+        if (bytes.length > 1 && bytes[0] == 0) {
+            byte[] trimmed = new byte[bytes.length - 1];
+            System.arraycopy(bytes, 1, trimmed, 0, trimmed.length);
+            return trimmed;
+        }
+        return bytes;
+    }
+}
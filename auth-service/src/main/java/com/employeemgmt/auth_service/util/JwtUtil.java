@@ -1,40 +1,65 @@
 package com.employeemgmt.authservice.util;
 
+import com.employeemgmt.authservice.service.SigningKeyService;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SignatureException;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.security.Key;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 
+/**
+ * Issues RS256 access tokens signed with the current rotating key; the kid header names the key
+ * Each token carries a random jti so it can be revoked individually
+ */
 @Component
 public class JwtUtil {
 
-    @Value("${jwt.secret}")
-    private String secret;
+    private final SigningKeyService signingKeyService;
 
     @Value("${jwt.expiration}")
     private Long expiration;
 
+    public JwtUtil(SigningKeyService signingKeyService) {
+        this.signingKeyService = signingKeyService;
+    }
+
     public String generateToken(String username, String role) {
         Map<String, Object> claims = new HashMap<>();
         claims.put("role", role);
 
+        SigningKeyService.LoadedKey signingKey = signingKeyService.currentSigningKey();
         return Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, signingKey.kid())
                 .setClaims(claims)
+                .setId(UUID.randomUUID().toString())
                 .setSubject(username)
                 .setIssuedAt(new Date())
                 .setExpiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(SignatureAlgorithm.HS512, secret)
+                .signWith(SignatureAlgorithm.RS256, signingKey.privateKey())
                 .compact();
     }
 
     public Claims extractClaims(String token) {
         return Jwts.parser()
-                .setSigningKey(secret)
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        Key key = signingKeyService.publicKey(header.getKeyId());
+                        if (key == null) {
+                            throw new SignatureException("Unknown signing key: " + header.getKeyId());
+                        }
+                        return key;
+                    }
+                })
                 .parseClaimsJws(token)
                 .getBody();
     }
@@ -50,4 +75,4 @@ public class JwtUtil {
             return false;
         }
     }
-}
\ No newline at end of file
+}
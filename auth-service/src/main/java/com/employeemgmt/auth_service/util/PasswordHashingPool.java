@@ -0,0 +1,85 @@
+package com.employeemgmt.authservice.util;
+
+import com.employeemgmt.authservice.exception.ServiceBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Fixed-size pool for the BCrypt work done by login and register
+ * Only the hash itself runs here; lookups, inserts and token signing stay on the request thread, so
+ * the pool is sized to the CPUs and a login storm cannot run more hashes than there are cores.
+ * When all workers are busy and the queue is full, the call fails immediately with
+ * ServiceBusyException (503) rather than letting requests wait until they time out.
+ * Pool gauges are published as auth.password.hashing executor metrics.
+ */
+@Component
+public class PasswordHashingPool {
+
+    private final ThreadPoolExecutor executor;
+    private final Counter rejected;
+
+    public PasswordHashingPool(MeterRegistry meterRegistry,
+                               @Value("${auth.password.pool-size:0}") int poolSize,
+                               @Value("${auth.password.queue-capacity:64}") int queueCapacity,
+                               @Value("${auth.password.bcrypt-strength:10}") int bcryptStrength) {
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("password-hashing-"),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        new ExecutorServiceMetrics(executor, "auth.password.hashing", Tags.empty()).bindTo(meterRegistry);
+        this.rejected = Counter.builder("auth.password.hashing.rejected")
+                .description("Login/register requests shed because the hashing pool was full")
+                .register(meterRegistry);
+        Gauge.builder("auth.password.bcrypt.strength", () -> bcryptStrength)
+                .description("BCrypt cost factor (log2 rounds) for new hashes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Runs the task on the pool; throws ServiceBusyException right away when the pool is saturated
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, executor);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new ServiceBusyException("Too many concurrent logins, retry shortly");
+        }
+    }
+
+    /**
+     * Runs the task on the pool and waits for its result; throws ServiceBusyException right away when the
+     * pool is saturated
+     */
+    public <T> T call(Supplier<T> task) {
+        try {
+            return submit(task).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,21 @@
+package com.employeemgmt.authservice.config;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * Derives the connection pool size from core count when auth.datasource.pool.connections-per-core
+ * is set (the prod profile in config-repo does)
+ */
+@Configuration
+@ConditionalOnProperty(name = "auth.datasource.pool.connections-per-core")
+public class DataSourcePoolConfig {
+
+    @Bean
+    static BeanPostProcessor hikariPoolSizing(Environment environment) {
+        return new HikariPoolSizing(environment, "auth.datasource.pool");
+    }
+}
@@ -2,38 +2,59 @@ package com.employeemgmt.authservice.controller;
 
 import com.employeemgmt.authservice.dto.AuthResponse;
 import com.employeemgmt.authservice.dto.LoginRequest;
+import com.employeemgmt.authservice.dto.RefreshRequest;
 import com.employeemgmt.authservice.dto.RegisterRequest;
+import com.employeemgmt.authservice.exception.ServiceBusyException;
 import com.employeemgmt.authservice.service.AuthService;
+import com.employeemgmt.authservice.service.RefreshTokenService;
+import com.employeemgmt.authservice.service.SigningKeyService;
 import jakarta.validation.Valid;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Duration;
+import java.util.Map;
+
 @RestController
 @RequestMapping("/auth")
 @Tag(name = "Auth", description = "Authentication endpoints")
 public class AuthController {
 
     private final AuthService authService;
+    private final SigningKeyService signingKeyService;
+    private final RefreshTokenService refreshTokenService;
+
+    @Value("${jwt.keys.jwks-max-age-seconds:300}")
+    private long jwksMaxAgeSeconds;
 
-    public AuthController(AuthService authService) {
+    public AuthController(AuthService authService,
+                          SigningKeyService signingKeyService,
+                          RefreshTokenService refreshTokenService) {
         this.authService = authService;
+        this.signingKeyService = signingKeyService;
+        this.refreshTokenService = refreshTokenService;
     }
 
     @Operation(summary = "Login", description = "Authenticate user and get JWT")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Authenticated"),
-            @ApiResponse(responseCode = "401", description = "Unauthorized")
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "503", description = "Too many concurrent logins, retry later")
     })
     @PostMapping("/login")
     public ResponseEntity<AuthResponse> login(@Valid @RequestBody LoginRequest request) {
         try {
             return ResponseEntity.ok(authService.login(request));
-        } catch (Exception e) {
+        } catch (ServiceBusyException e) {
+            throw e;
+        } catch (RuntimeException e) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
         }
     }
@@ -41,17 +62,69 @@ public class AuthController {
     @Operation(summary = "Register", description = "Create a new user")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "201", description = "User created"),
-            @ApiResponse(responseCode = "400", description = "Bad request")
+            @ApiResponse(responseCode = "400", description = "Bad request"),
+            @ApiResponse(responseCode = "503", description = "Too many concurrent registrations, retry later")
     })
     @PostMapping("/register")
     public ResponseEntity<AuthResponse> register(@Valid @RequestBody RegisterRequest request) {
         try {
             return ResponseEntity.status(HttpStatus.CREATED).body(authService.register(request));
-        } catch (Exception e) {
+        } catch (ServiceBusyException e) {
+            throw e;
+        } catch (RuntimeException e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
         }
     }
 
+    @Operation(summary = "Refresh", description = "Exchange a refresh token for new access and refresh tokens; the old refresh token is used up")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Tokens issued"),
+            @ApiResponse(responseCode = "401", description = "Refresh token unknown, expired or already used")
+    })
+    @PostMapping("/refresh")
+    public ResponseEntity<AuthResponse> refresh(@Valid @RequestBody RefreshRequest request) {
+        try {
+            return ResponseEntity.ok(authService.refresh(request));
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+    }
+
+    @Operation(summary = "Logout", description = "Revoke the refresh token and the bearer access token, if one is sent")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Tokens revoked")
+    })
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@Valid @RequestBody RefreshRequest request,
+                                       @RequestHeader(value = "Authorization", required = false) String authorization) {
+        String accessToken = authorization != null && authorization.startsWith("Bearer ")
+                ? authorization.substring(7) : null;
+        authService.logout(request, accessToken);
+        return ResponseEntity.noContent().build();
+    }
+
+    @Operation(summary = "Revoked access tokens", description = "Ids (jti) of access tokens revoked before their expiry, polled by the gateway")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Revoked token ids that have not expired yet")
+    })
+    @GetMapping("/revocations")
+    public ResponseEntity<Map<String, Object>> revocations() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                .body(Map.of("jtis", refreshTokenService.revokedAccessTokenIds()));
+    }
+
+    @Operation(summary = "JSON Web Key Set", description = "Public keys for verifying issued tokens, matched by the kid header")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Current, upcoming and recently retired keys")
+    })
+    @GetMapping("/.well-known/jwks.json")
+    public ResponseEntity<Map<String, Object>> jwks() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(Duration.ofSeconds(jwksMaxAgeSeconds)).cachePublic())
+                .body(signingKeyService.jwks());
+    }
+
     @Operation(summary = "Health check")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Service is running")
@@ -0,0 +1,10 @@
+package com.employeemgmt.authservice.exception;
+
+/**
+ * Thrown when a bounded worker pool is full and the request is shed instead of queued
+ */
+public class ServiceBusyException extends RuntimeException {
+    public ServiceBusyException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,10 @@
+-- RSA key pairs used to sign access tokens, shared by all auth-service instances.
+-- A key is published in the JWKS before activates_at and stays published after it is
+-- superseded for as long as tokens signed with it can still be valid.
+CREATE TABLE signing_keys (
+                              kid VARCHAR(64) PRIMARY KEY,
+                              public_key TEXT NOT NULL,
+                              private_key TEXT NOT NULL,
+                              activates_at TIMESTAMP NOT NULL,
+                              created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
@@ -0,0 +1,19 @@
+-- Opaque refresh tokens; only the SHA-256 of the token is stored, never the token itself.
+-- A token is single use: refreshing marks it revoked and issues a replacement.
+CREATE TABLE refresh_tokens (
+                                id BIGSERIAL PRIMARY KEY,
+                                token_hash VARCHAR(64) UNIQUE NOT NULL,
+                                username VARCHAR(50) NOT NULL,
+                                expires_at TIMESTAMP NOT NULL,
+                                revoked_at TIMESTAMP,
+                                created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_refresh_tokens_username ON refresh_tokens (username);
+
+-- Access token ids (jti) revoked before their natural expiry; rows are purged once expires_at passes.
+CREATE TABLE revoked_tokens (
+                                jti VARCHAR(64) PRIMARY KEY,
+                                expires_at TIMESTAMP NOT NULL,
+                                revoked_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
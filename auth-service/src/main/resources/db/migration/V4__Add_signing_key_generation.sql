@@ -0,0 +1,11 @@
+-- Each rotation creates the next generation. Instances that refresh at the same moment all try to
+-- insert the same generation, so the unique constraint lets exactly one of them create the key.
+ALTER TABLE signing_keys ADD COLUMN generation BIGINT;
+
+UPDATE signing_keys s
+SET generation = ordered.generation
+FROM (SELECT kid, ROW_NUMBER() OVER (ORDER BY activates_at) AS generation FROM signing_keys) ordered
+WHERE s.kid = ordered.kid;
+
+ALTER TABLE signing_keys ALTER COLUMN generation SET NOT NULL;
+ALTER TABLE signing_keys ADD CONSTRAINT uk_signing_keys_generation UNIQUE (generation);
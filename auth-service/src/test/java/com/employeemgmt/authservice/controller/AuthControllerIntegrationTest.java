@@ -1,10 +1,14 @@
 package com.employeemgmt.authservice.controller;
 
-import com.employeemgmt.auth_service.dto.LoginRequest;
-import com.employeemgmt.auth_service.dto.RegisterRequest;
-import com.employeemgmt.auth_service.entity.User;
-import com.employeemgmt.auth_service.repository.UserRepository;
+import com.employeemgmt.authservice.dto.LoginRequest;
+import com.employeemgmt.authservice.dto.RefreshRequest;
+import com.employeemgmt.authservice.dto.RegisterRequest;
+import com.employeemgmt.authservice.entity.User;
+import com.employeemgmt.authservice.repository.UserRepository;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -14,15 +18,21 @@ import org.springframework.http.MediaType;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigInteger;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.RSAPublicKeySpec;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @SpringBootTest
 @AutoConfigureMockMvc
 @ActiveProfiles("test")
-@Transactional
 class AuthControllerIntegrationTest {
 
     @Autowired
@@ -105,4 +115,108 @@ class AuthControllerIntegrationTest {
                         .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isBadRequest());
     }
+
+    @Test
+    void shouldPublishJwksThatVerifiesIssuedTokens() throws Exception {
+        LoginRequest request = new LoginRequest();
+        request.setUsername("testuser");
+        request.setPassword("password123");
+
+        String login = mockMvc.perform(post("/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        String token = objectMapper.readTree(login).get("token").asText();
+
+        String jwks = mockMvc.perform(get("/auth/.well-known/jwks.json"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "max-age=300, public"))
+                .andExpect(jsonPath("$.keys[0].kty").value("RSA"))
+                .andReturn().getResponse().getContentAsString();
+
+        Base64.Decoder base64Url = Base64.getUrlDecoder();
+        String kid = objectMapper.readTree(base64Url.decode(token.substring(0, token.indexOf('.')))).get("kid").asText();
+        JsonNode jwk = null;
+        for (JsonNode key : objectMapper.readTree(jwks).get("keys")) {
+            if (kid.equals(key.get("kid").asText())) {
+                jwk = key;
+            }
+        }
+        assertThat(jwk).isNotNull();
+
+        PublicKey publicKey = KeyFactory.getInstance("RSA").generatePublic(new RSAPublicKeySpec(
+                new BigInteger(1, base64Url.decode(jwk.get("n").asText())),
+                new BigInteger(1, base64Url.decode(jwk.get("e").asText()))));
+        Claims claims = Jwts.parser().setSigningKey(publicKey).parseClaimsJws(token).getBody();
+        assertThat(claims.getSubject()).isEqualTo("testuser");
+        assertThat(claims.get("role")).isEqualTo("EMPLOYEE");
+    }
+
+    @Test
+    void shouldRotateRefreshTokenAndRejectReuse() throws Exception {
+        JsonNode login = login();
+        String refreshToken = login.get("refreshToken").asText();
+
+        String refreshed = mockMvc.perform(post("/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(refreshBody(refreshToken)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.username").value("testuser"))
+                .andExpect(jsonPath("$.token").exists())
+                .andReturn().getResponse().getContentAsString();
+        String rotated = objectMapper.readTree(refreshed).get("refreshToken").asText();
+        assertThat(rotated).isNotEqualTo(refreshToken);
+
+        // Reusing the first token fails and also revokes the one issued in its place
+        mockMvc.perform(post("/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(refreshBody(refreshToken)))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(post("/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(refreshBody(rotated)))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void shouldPublishRevokedAccessTokenAfterLogout() throws Exception {
+        JsonNode login = login();
+        String token = login.get("token").asText();
+        String jti = objectMapper.readTree(Base64.getUrlDecoder().decode(token.split("\\.")[1])).get("jti").asText();
+
+        mockMvc.perform(post("/auth/logout")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(refreshBody(login.get("refreshToken").asText())))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/auth/revocations"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.jtis[0]").value(jti));
+        mockMvc.perform(post("/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(refreshBody(login.get("refreshToken").asText())))
+                .andExpect(status().isUnauthorized());
+    }
+
+    private JsonNode login() throws Exception {
+        LoginRequest request = new LoginRequest();
+        request.setUsername("testuser");
+        request.setPassword("password123");
+
+        String body = mockMvc.perform(post("/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.refreshToken").exists())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body);
+    }
+
+    private String refreshBody(String refreshToken) throws Exception {
+        RefreshRequest request = new RefreshRequest();
+        request.setRefreshToken(refreshToken);
+        return objectMapper.writeValueAsString(request);
+    }
 }
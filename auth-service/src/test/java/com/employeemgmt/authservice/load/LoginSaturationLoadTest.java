@@ -0,0 +1,118 @@
+package com.employeemgmt.authservice.load;
+
+import com.employeemgmt.authservice.entity.User;
+import com.employeemgmt.authservice.repository.UserRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Saturates login (BCrypt cost 12 on one hashing thread) with more concurrent clients than Tomcat has
+ * threads, and measures GET /auth/health latency meanwhile. Before hashing was bounded, every Tomcat
+ * thread sat in BCrypt and health checks queued behind a full round of hashes (seconds at this cost).
+ * Now at most pool-size + queue-capacity request threads wait on a hash and the rest are shed with 503.
+ * The bound is loose because hashing still shares the CPU with Tomcat.
+ * Run with: mvn test -Pload-test
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "server.tomcat.threads.max=16",
+        "auth.password.pool-size=1",
+        "auth.password.queue-capacity=8",
+        "auth.password.bcrypt-strength=12"
+})
+@ActiveProfiles("test")
+class LoginSaturationLoadTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoginSaturationLoadTest.class);
+
+    private static final int LOGIN_CLIENTS = 32;
+    private static final int HEALTH_SAMPLES = 400;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Test
+    void nonLoginEndpointsStayFastWhileLoginsAreSaturated() throws Exception {
+        userRepository.deleteAll();
+        User user = new User();
+        user.setUsername("loaduser");
+        user.setPassword(passwordEncoder.encode("password123"));
+        user.setEmail("load@example.com");
+        user.setRole("EMPLOYEE");
+        userRepository.save(user);
+
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+        HttpRequest login = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"username\":\"loaduser\",\"password\":\"password123\"}"))
+                .build();
+        HttpRequest health = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/auth/health")).build();
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicInteger ok = new AtomicInteger();
+        AtomicInteger shed = new AtomicInteger();
+        ExecutorService loginClients = Executors.newFixedThreadPool(LOGIN_CLIENTS);
+        for (int i = 0; i < LOGIN_CLIENTS; i++) {
+            loginClients.submit(() -> {
+                while (running.get()) {
+                    int status = client.send(login, HttpResponse.BodyHandlers.discarding()).statusCode();
+                    (status == 200 ? ok : shed).incrementAndGet();
+                    if (status == 503) {
+                        Thread.sleep(50); // back off like a client honouring Retry-After
+                    }
+                }
+                return null;
+            });
+        }
+
+        Thread.sleep(2000);
+        List<Long> latenciesMicros = new ArrayList<>(HEALTH_SAMPLES);
+        for (int i = 0; i < HEALTH_SAMPLES; i++) {
+            long start = System.nanoTime();
+            assertThat(client.send(health, HttpResponse.BodyHandlers.ofString()).statusCode()).isEqualTo(200);
+            latenciesMicros.add((System.nanoTime() - start) / 1_000);
+        }
+        running.set(false);
+        loginClients.shutdown();
+        loginClients.awaitTermination(30, TimeUnit.SECONDS);
+
+        Collections.sort(latenciesMicros);
+        long p50 = latenciesMicros.get(HEALTH_SAMPLES / 2);
+        long p99 = latenciesMicros.get(HEALTH_SAMPLES * 99 / 100);
+        logger.warn("health p50 {} ms, p99 {} ms; logins {} ok, {} shed with 503",
+                p50 / 1000.0, p99 / 1000.0, ok.get(), shed.get());
+
+        assertThat(ok.get()).isPositive();
+        assertThat(shed.get()).isPositive();
+        assertThat(p99).isLessThan(1_000_000);
+    }
+}
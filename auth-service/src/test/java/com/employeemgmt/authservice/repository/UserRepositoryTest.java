@@ -1,6 +1,6 @@
 package com.employeemgmt.authservice.repository;
 
-import com.employeemgmt.auth_service.entity.User;
+import com.employeemgmt.authservice.entity.User;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
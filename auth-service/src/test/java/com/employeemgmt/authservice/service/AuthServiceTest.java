@@ -1,11 +1,14 @@
 package com.employeemgmt.authservice.service;
 
-import com.employeemgmt.auth_service.dto.AuthResponse;
-import com.employeemgmt.auth_service.dto.LoginRequest;
-import com.employeemgmt.auth_service.dto.RegisterRequest;
-import com.employeemgmt.auth_service.entity.User;
-import com.employeemgmt.auth_service.repository.UserRepository;
-import com.employeemgmt.auth_service.util.JwtUtil;
+import com.employeemgmt.authservice.dto.AuthResponse;
+import com.employeemgmt.authservice.dto.LoginRequest;
+import com.employeemgmt.authservice.dto.RefreshRequest;
+import com.employeemgmt.authservice.dto.RegisterRequest;
+import com.employeemgmt.authservice.entity.User;
+import com.employeemgmt.authservice.repository.UserRepository;
+import com.employeemgmt.authservice.exception.ServiceBusyException;
+import com.employeemgmt.authservice.util.JwtUtil;
+import com.employeemgmt.authservice.util.PasswordHashingPool;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -15,6 +18,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -34,6 +38,12 @@ class AuthServiceTest {
     @Mock
     private JwtUtil jwtUtil;
 
+    @Mock
+    private RefreshTokenService refreshTokenService;
+
+    @Mock
+    private PasswordHashingPool passwordHashingPool;
+
     @InjectMocks
     private AuthService authService;
 
@@ -43,6 +53,8 @@ class AuthServiceTest {
 
     @BeforeEach
     void setUp() {
+        lenient().when(passwordHashingPool.call(any())).thenAnswer(invocation -> ((Supplier<?>) invocation.getArgument(0)).get());
+
         testUser = new User();
         testUser.setId(1L);
         testUser.setUsername("testuser");
@@ -142,4 +154,49 @@ class AuthServiceTest {
                 .isInstanceOf(RuntimeException.class)
                 .hasMessage("Email already exists");
     }
+
+    @Test
+    void shouldNotIssueTokensWhenHashingPoolIsSaturated() {
+        // Given
+        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(testUser));
+        doThrow(new ServiceBusyException("Too many concurrent logins, retry shortly")).when(passwordHashingPool).call(any());
+
+        // When & Then
+        assertThatThrownBy(() -> authService.login(loginRequest))
+                .isInstanceOf(ServiceBusyException.class);
+        verifyNoInteractions(passwordEncoder, jwtUtil, refreshTokenService);
+    }
+
+    @Test
+    void shouldRefreshWithoutCheckingPassword() {
+        // Given
+        RefreshRequest request = new RefreshRequest();
+        request.setRefreshToken("old-refresh-token");
+        when(refreshTokenService.consume("old-refresh-token")).thenReturn("testuser");
+        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(testUser));
+        when(jwtUtil.generateToken("testuser", "EMPLOYEE")).thenReturn("fake-jwt-token");
+        when(refreshTokenService.issue("testuser")).thenReturn("new-refresh-token");
+
+        // When
+        AuthResponse response = authService.refresh(request);
+
+        // Then
+        assertThat(response.getToken()).isEqualTo("fake-jwt-token");
+        assertThat(response.getRefreshToken()).isEqualTo("new-refresh-token");
+        verifyNoInteractions(passwordEncoder);
+    }
+
+    @Test
+    void shouldRejectRefreshWhenTokenCannotBeConsumed() {
+        // Given
+        RefreshRequest request = new RefreshRequest();
+        request.setRefreshToken("used-refresh-token");
+        when(refreshTokenService.consume("used-refresh-token")).thenThrow(new RuntimeException("Invalid refresh token"));
+
+        // When & Then
+        assertThatThrownBy(() -> authService.refresh(request))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("Invalid refresh token");
+        verify(jwtUtil, never()).generateToken(anyString(), anyString());
+    }
 }
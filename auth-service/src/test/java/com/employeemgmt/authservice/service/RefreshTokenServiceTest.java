@@ -0,0 +1,81 @@
+package com.employeemgmt.authservice.service;
+
+import com.employeemgmt.authservice.repository.RefreshTokenRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class RefreshTokenServiceTest {
+
+    private static final int CONCURRENT_REFRESHES = 8;
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenRepository.deleteAll();
+    }
+
+    @Test
+    void shouldLetOnlyOneConcurrentRefreshConsumeAToken() throws Exception {
+        // Given
+        String token = refreshTokenService.issue("testuser");
+        String otherSession = refreshTokenService.issue("testuser");
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService clients = Executors.newFixedThreadPool(CONCURRENT_REFRESHES);
+
+        // When
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < CONCURRENT_REFRESHES; i++) {
+            results.add(clients.submit(() -> {
+                start.await();
+                return refreshTokenService.consume(token);
+            }));
+        }
+        start.countDown();
+        int consumed = 0;
+        for (Future<String> result : results) {
+            try {
+                assertThat(result.get()).isEqualTo("testuser");
+                consumed++;
+            } catch (Exception e) {
+                assertThat(e).hasRootCauseMessage("Invalid refresh token");
+            }
+        }
+        clients.shutdown();
+
+        // Then - the losers count as reuse, which revokes the user's other refresh tokens
+        assertThat(consumed).isEqualTo(1);
+        assertThatThrownBy(() -> refreshTokenService.consume(otherSession))
+                .hasMessage("Invalid refresh token");
+    }
+
+    @Test
+    void shouldRejectSecondUseOfAToken() {
+        // Given
+        String token = refreshTokenService.issue("testuser");
+        refreshTokenService.consume(token);
+
+        // When & Then
+        assertThatThrownBy(() -> refreshTokenService.consume(token))
+                .hasMessage("Invalid refresh token");
+    }
+}
@@ -0,0 +1,189 @@
+package com.employeemgmt.authservice.service;
+
+import com.employeemgmt.authservice.entity.SigningKey;
+import com.employeemgmt.authservice.repository.SigningKeyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SigningKeyServiceTest {
+
+    private static final long DAY_MS = 86_400_000L;
+    private static final String ENCRYPTION_KEY = "MDEyMzQ1Njc4OWFiY2RlZjAxMjM0NTY3ODlhYmNkZWY=";
+
+    @Mock
+    private SigningKeyRepository signingKeyRepository;
+
+    @InjectMocks
+    private SigningKeyService signingKeyService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(signingKeyService, "tokenExpirationMs", DAY_MS);
+        ReflectionTestUtils.setField(signingKeyService, "rotationIntervalMs", DAY_MS);
+        ReflectionTestUtils.setField(signingKeyService, "activationDelayMs", 900_000L);
+        ReflectionTestUtils.setField(signingKeyService, "encryptionKey", ENCRYPTION_KEY);
+    }
+
+    @Test
+    void shouldCreateImmediatelyActiveKeyWhenNoneExist() {
+        // Given
+        storedKeys(new ArrayList<>());
+
+        // When
+        signingKeyService.refresh();
+
+        // Then
+        ArgumentCaptor<SigningKey> saved = ArgumentCaptor.forClass(SigningKey.class);
+        verify(signingKeyRepository).saveAndFlush(saved.capture());
+        assertThat(saved.getValue().getGeneration()).isEqualTo(1);
+        assertThat(signingKeyService.currentSigningKey().kid()).isEqualTo(saved.getValue().getKid());
+        assertThat(keysOf(signingKeyService.jwks())).hasSize(1);
+    }
+
+    @Test
+    void shouldPublishNextKeyBeforeSigningWithIt() {
+        // Given
+        SigningKey current = signingKeyService.generate(1, LocalDateTime.now().minusDays(2));
+        storedKeys(new ArrayList<>(List.of(current)));
+
+        // When
+        signingKeyService.refresh();
+
+        // Then
+        assertThat(signingKeyService.currentSigningKey().kid()).isEqualTo(current.getKid());
+        assertThat(keysOf(signingKeyService.jwks())).extracting(jwk -> jwk.get("kid"))
+                .hasSize(2)
+                .contains(current.getKid());
+    }
+
+    @Test
+    void shouldDeleteKeysWhoseTokensHaveExpired() {
+        // Given
+        SigningKey retired = signingKeyService.generate(1, LocalDateTime.now().minusDays(5));
+        SigningKey previous = signingKeyService.generate(2, LocalDateTime.now().minusDays(3));
+        SigningKey current = signingKeyService.generate(3, LocalDateTime.now().minusHours(1));
+        when(signingKeyRepository.findAllByOrderByActivatesAtAsc()).thenReturn(List.of(retired, previous, current));
+
+        // When
+        signingKeyService.refresh();
+
+        // Then
+        verify(signingKeyRepository, never()).saveAndFlush(any());
+        verify(signingKeyRepository).deleteAll(List.of(retired));
+        assertThat(signingKeyService.publicKey(retired.getKid())).isNull();
+        assertThat(signingKeyService.publicKey(previous.getKid())).isNotNull();
+        assertThat(signingKeyService.currentSigningKey().kid()).isEqualTo(current.getKid());
+    }
+
+    @Test
+    void shouldStorePrivateKeyEncrypted() throws Exception {
+        // Given
+        SigningKey key = signingKeyService.generate(1, LocalDateTime.now().minusHours(1));
+        when(signingKeyRepository.findAllByOrderByActivatesAtAsc()).thenReturn(List.of(key));
+
+        // When
+        signingKeyService.refresh();
+
+        // Then
+        PrivateKey privateKey = signingKeyService.currentSigningKey().privateKey();
+        assertThat(key.getPrivateKey())
+                .startsWith(SigningKeyService.ENCRYPTED_PREFIX)
+                .doesNotContain(Base64.getEncoder().encodeToString(privateKey.getEncoded()));
+        verify(signingKeyRepository, never()).save(any());
+    }
+
+    @Test
+    void shouldEncryptPrivateKeyStoredInPlainText() throws Exception {
+        // Given - a row written before private keys were encrypted
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        KeyPair pair = generator.generateKeyPair();
+        byte[] pkcs8 = pair.getPrivate().getEncoded();
+        SigningKey key = new SigningKey();
+        key.setKid("plain-text-kid");
+        key.setPublicKey(Base64.getEncoder().encodeToString(pair.getPublic().getEncoded()));
+        key.setPrivateKey(Base64.getEncoder().encodeToString(pkcs8));
+        key.setGeneration(1L);
+        key.setActivatesAt(LocalDateTime.now().minusHours(1));
+        when(signingKeyRepository.findAllByOrderByActivatesAtAsc()).thenReturn(List.of(key));
+
+        // When
+        signingKeyService.refresh();
+
+        // Then
+        verify(signingKeyRepository).save(key);
+        assertThat(key.getPrivateKey()).startsWith(SigningKeyService.ENCRYPTED_PREFIX);
+        assertThat(signingKeyService.currentSigningKey().privateKey().getEncoded()).isEqualTo(pkcs8);
+    }
+
+    @Test
+    void shouldNotDecryptPrivateKeyMovedToAnotherKid() {
+        // Given
+        SigningKey key = signingKeyService.generate(1, LocalDateTime.now().minusHours(1));
+        key.setKid("another-kid");
+        when(signingKeyRepository.findAllByOrderByActivatesAtAsc()).thenReturn(List.of(key));
+
+        // When & Then
+        assertThatThrownBy(() -> signingKeyService.refresh())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("another-kid");
+    }
+
+    @Test
+    void shouldPublishOtherInstancesKeyWhenItWinsTheRotation() {
+        // Given - another instance inserts the next generation first
+        SigningKey current = signingKeyService.generate(1, LocalDateTime.now().minusDays(2));
+        SigningKey winner = signingKeyService.generate(2, LocalDateTime.now().plusMinutes(15));
+        when(signingKeyRepository.findAllByOrderByActivatesAtAsc())
+                .thenReturn(List.of(current))
+                .thenReturn(List.of(current, winner));
+        when(signingKeyRepository.saveAndFlush(any(SigningKey.class)))
+                .thenThrow(new DataIntegrityViolationException("uk_signing_keys_generation"));
+
+        // When
+        signingKeyService.refresh();
+
+        // Then
+        assertThat(keysOf(signingKeyService.jwks())).extracting(jwk -> jwk.get("kid"))
+                .containsExactly(current.getKid(), winner.getKid());
+        assertThat(signingKeyService.currentSigningKey().kid()).isEqualTo(current.getKid());
+    }
+
+    /**
+     * Backs the repository with a list, so a key saved by refresh is returned when it reloads
+     */
+    private void storedKeys(List<SigningKey> keys) {
+        when(signingKeyRepository.findAllByOrderByActivatesAtAsc()).thenAnswer(invocation -> List.copyOf(keys));
+        when(signingKeyRepository.saveAndFlush(any(SigningKey.class))).thenAnswer(invocation -> {
+            keys.add(invocation.getArgument(0));
+            return invocation.getArgument(0);
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Map<String, Object>> keysOf(Map<String, Object> jwks) {
+        return (List<Map<String, Object>>) jwks.get("keys");
+    }
+}
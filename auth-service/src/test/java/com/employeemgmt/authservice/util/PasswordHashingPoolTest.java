@@ -0,0 +1,51 @@
+package com.employeemgmt.authservice.util;
+
+import com.employeemgmt.authservice.exception.ServiceBusyException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PasswordHashingPoolTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PasswordHashingPool pool = new PasswordHashingPool(meterRegistry, 1, 1, 12);
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    void shouldShedWorkOnceWorkersAndQueueAreFull() throws Exception {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> running = pool.submit(() -> await(release, "first"));
+        CompletableFuture<String> queued = pool.submit(() -> await(release, "second"));
+
+        // When & Then
+        assertThatThrownBy(() -> pool.submit(() -> "third"))
+                .isInstanceOf(ServiceBusyException.class);
+        assertThat(meterRegistry.get("auth.password.hashing.rejected").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("auth.password.bcrypt.strength").gauge().value()).isEqualTo(12);
+
+        release.countDown();
+        assertThat(running.get()).isEqualTo("first");
+        assertThat(queued.get()).isEqualTo("second");
+        assertThat(pool.submit(() -> "fourth").get()).isEqualTo("fourth");
+    }
+
+    private static String await(CountDownLatch latch, String result) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return result;
+    }
+}
@@ -0,0 +1,39 @@
+package com.employeemgmt.employeeservice.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String EMPLOYEES = "employees";
+    public static final String EMPLOYEES_BY_CODE = "employeesByCode";
+    public static final String DEPARTMENTS = "departments";
+
+    /**
+     * Size- and TTL-bounded Caffeine caches with statistics recording, which Spring Boot
+     * binds to the cache.gets / cache.puts / cache.evictions meters.
+     * The transaction-aware proxy defers puts and evictions until commit, so a reader
+     * cannot repopulate an entry with data from a write that is still in flight.
+     */
+    @Bean
+    public CacheManager cacheManager(@Value("${employee.cache.maximum-size:10000}") long maximumSize,
+                                     @Value("${employee.cache.ttl:10m}") Duration ttl) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(EMPLOYEES, EMPLOYEES_BY_CODE, DEPARTMENTS);
+        cacheManager.setCaffeine(Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats());
+        cacheManager.setAllowNullValues(false);
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+}
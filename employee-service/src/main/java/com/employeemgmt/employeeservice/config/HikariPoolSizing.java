@@ -0,0 +1,51 @@
+package com.employeemgmt.employeeservice.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+
+/**
+ * Sizes the Hikari pool as cores * connections-per-core + spindles, the PostgreSQL rule of thumb.
+ * The cores value should be the database server's and defaults to this JVM's processors. An explicit
+ * spring.datasource.hikari.maximum-pool-size always wins. Runs before the pool opens its first connection.
+ * auth-service has the same class; the services share no library, so change both together.
+ */
+public class HikariPoolSizing implements BeanPostProcessor {
+
+    private static final Logger logger = LoggerFactory.getLogger(HikariPoolSizing.class);
+
+    static final String MAXIMUM_POOL_SIZE = "spring.datasource.hikari.maximum-pool-size";
+
+    private final Binder binder;
+    private final String prefix;
+
+    public HikariPoolSizing(Environment environment, String prefix) {
+        this.binder = Binder.get(environment);
+        this.prefix = prefix;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof HikariDataSource dataSource && !binder.bind(MAXIMUM_POOL_SIZE, Integer.class).isBound()) {
+            int cores = binder.bind(prefix + ".cores", Integer.class)
+                    .orElse(Runtime.getRuntime().availableProcessors());
+            int perCore = binder.bind(prefix + ".connections-per-core", Integer.class).orElse(2);
+            int spindles = binder.bind(prefix + ".spindles", Integer.class).orElse(1);
+            int size = poolSize(cores, perCore, spindles);
+            dataSource.setMaximumPoolSize(size);
+            if (dataSource.getMinimumIdle() > size) {
+                dataSource.setMinimumIdle(size);
+            }
+            logger.info("Sized {} to {} connections ({} cores x {} + {})",
+                    dataSource.getPoolName() != null ? dataSource.getPoolName() : beanName, size, cores, perCore, spindles);
+        }
+        return bean;
+    }
+
+    static int poolSize(int cores, int connectionsPerCore, int spindles) {
+        return Math.max(1, cores * connectionsPerCore + spindles);
+    }
+}
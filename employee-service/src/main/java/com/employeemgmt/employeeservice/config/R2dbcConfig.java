@@ -0,0 +1,64 @@
+package com.employeemgmt.employeeservice.config;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.r2dbc.ConnectionFactoryBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.util.StringUtils;
+
+@Configuration
+@EnableConfigurationProperties(R2dbcProperties.class)
+public class R2dbcConfig implements DisposableBean {
+
+    private final ConnectionPool connectionPool;
+
+    /**
+     * Pooled R2DBC connections to the employee database, configured from spring.r2dbc.*
+     * The pool is kept out of the context on purpose: Spring Boot skips the JDBC DataSource
+     * (and with it JPA and Flyway) as soon as any ConnectionFactory bean exists.
+     * Without spring.r2dbc.url the pool follows spring.datasource.url, so the database is configured once.
+     */
+    public R2dbcConfig(R2dbcProperties properties, @Value("${spring.datasource.url:}") String jdbcUrl) {
+        String url = StringUtils.hasText(properties.getUrl()) ? properties.getUrl() : r2dbcUrl(jdbcUrl);
+        R2dbcProperties.Pool pool = properties.getPool();
+        ConnectionPoolConfiguration.Builder configuration = ConnectionPoolConfiguration.builder(
+                        ConnectionFactoryBuilder.withUrl(url)
+                                .username(properties.getUsername())
+                                .password(properties.getPassword())
+                                .build())
+                .name("employee-stream")
+                .initialSize(pool.getInitialSize())
+                .maxSize(pool.getMaxSize())
+                .maxIdleTime(pool.getMaxIdleTime());
+        if (pool.getMaxAcquireTime() != null) {
+            configuration.maxAcquireTime(pool.getMaxAcquireTime());
+        }
+        this.connectionPool = new ConnectionPool(configuration.build());
+    }
+
+    /**
+     * jdbc:postgresql://host:port/db becomes r2dbc:postgresql://host:port/db
+     */
+    static String r2dbcUrl(String jdbcUrl) {
+        if (jdbcUrl == null || !jdbcUrl.startsWith("jdbc:")) {
+            throw new IllegalStateException("Set spring.r2dbc.url, or spring.datasource.url to a jdbc: URL to derive it from");
+        }
+        return "r2dbc:" + jdbcUrl.substring("jdbc:".length());
+    }
+
+    @Bean
+    public DatabaseClient databaseClient() {
+        return DatabaseClient.create(connectionPool);
+    }
+
+    @Override
+    public void destroy() {
+        connectionPool.dispose();
+    }
+}
@@ -0,0 +1,104 @@
+package com.employeemgmt.employeeservice.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sends @Transactional(readOnly = true) work to read replicas when employee.datasource.replicas.urls is set
+ * The context DataSource becomes a LazyConnectionDataSourceProxy over the primary pool: it only fetches
+ * a physical connection at the first statement, by which point the transaction has marked the connection
+ * read-only, and read-only connections come from ReplicaRoutingDataSource. Flyway and every read-write
+ * transaction use the primary pool directly.
+ */
+@Configuration
+@ConditionalOnProperty(name = "employee.datasource.replicas.urls")
+public class ReadReplicaConfig {
+
+    // Zero on a standby that has replayed everything it received, so an idle primary does not look like lag
+    static final String POSTGRES_LAG_QUERY = "SELECT CASE WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 "
+            + "ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0) END";
+
+    @Bean
+    @FlywayDataSource
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    /**
+     * One pool per replica URL, with the primary's credentials and spring.datasource.hikari.* settings;
+     * employee.datasource.replicas.hikari.* overrides them for the replicas.
+     */
+    @Bean
+    public ReadReplicas readReplicas(DataSourceProperties properties, Environment environment,
+                                     @Value("${employee.datasource.replicas.urls}") List<String> urls,
+                                     @Value("${employee.datasource.replicas.max-lag:1s}") Duration maxLag,
+                                     ObjectProvider<MeterRegistry> meterRegistry) {
+        Binder binder = Binder.get(environment);
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        List<HikariDataSource> pools = new ArrayList<>();
+        for (String url : urls) {
+            HikariDataSource replica = properties.initializeDataSourceBuilder()
+                    .type(HikariDataSource.class)
+                    .url(url.trim())
+                    .build();
+            binder.bind("spring.datasource.hikari", Bindable.ofInstance(replica));
+            binder.bind("employee.datasource.replicas.hikari", Bindable.ofInstance(replica));
+            replica.setPoolName("employee-replica-" + (pools.size() + 1));
+            // An unreachable replica must not stop the service from starting; the health check reports it
+            replica.setInitializationFailTimeout(-1);
+            if (registry != null) {
+                replica.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry));
+            }
+            pools.add(replica);
+        }
+        if (pools.isEmpty()) {
+            throw new IllegalStateException("employee.datasource.replicas.urls is set but lists no replica");
+        }
+
+        ReadReplicas readReplicas = new ReadReplicas(pools, maxLag,
+                environment.getProperty("employee.datasource.replicas.lag-query", POSTGRES_LAG_QUERY));
+        if (registry != null) {
+            readReplicas.bindTo(registry);
+        }
+        return readReplicas;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReadReplicas readReplicas) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+        dataSource.setReadOnlyDataSource(new ReplicaRoutingDataSource(primaryDataSource, readReplicas));
+        return dataSource;
+    }
+
+    /**
+     * A replica may trail the primary by up to max-lag plus one health-check interval before it is taken out
+     * of rotation, so that is how long a user's reads stay on the primary after a write
+     */
+    @Bean
+    public ReadYourWritesFilter readYourWritesFilter(
+            @Value("${employee.datasource.replicas.max-lag:1s}") Duration maxLag,
+            @Value("${employee.datasource.replicas.health-check-interval-ms:5000}") long healthCheckIntervalMs) {
+        return new ReadYourWritesFilter(maxLag.plusMillis(healthCheckIntervalMs));
+    }
+}
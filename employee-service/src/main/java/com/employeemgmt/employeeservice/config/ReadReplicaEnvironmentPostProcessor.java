@@ -0,0 +1,27 @@
+package com.employeemgmt.employeeservice.config;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+
+import java.util.Map;
+
+/**
+ * Turns off spring.jpa.open-in-view when read replicas are configured
+ * An EntityManager held open for the whole request keeps the first JDBC connection it got, so a
+ * read-only transaction could run on the primary, or a write that follows a read on a replica
+ * connection. Runs after the config-server import, so it sees replica URLs served from config-repo.
+ */
+public class ReadReplicaEnvironmentPostProcessor implements EnvironmentPostProcessor {
+
+    static final String PROPERTY_SOURCE = "readReplicaDefaults";
+
+    @Override
+    public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+        if (environment.containsProperty("employee.datasource.replicas.urls")) {
+            environment.getPropertySources().addFirst(
+                    new MapPropertySource(PROPERTY_SOURCE, Map.of("spring.jpa.open-in-view", "false")));
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.employeemgmt.employeeservice.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The replica pools behind ReplicaRoutingDataSource, handed out round-robin
+ * A replica is only eligible while its last health check succeeded and its replication lag
+ * was within max-lag. Replicas start out ineligible until the first check has run.
+ */
+public class ReadReplicas implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReadReplicas.class);
+
+    private final List<Replica> replicas;
+    private final Duration maxLag;
+    private final String lagQuery;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReadReplicas(List<HikariDataSource> dataSources, Duration maxLag, String lagQuery) {
+        this.replicas = dataSources.stream().map(Replica::new).toList();
+        this.maxLag = maxLag;
+        this.lagQuery = lagQuery;
+    }
+
+    /**
+     * Next eligible replica in round-robin order, or null if none is eligible
+     */
+    HikariDataSource next() {
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.eligible) {
+                return replica.dataSource;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Takes a replica out of rotation until the next successful health check
+     */
+    void markDown(HikariDataSource dataSource, SQLException cause) {
+        replicas.stream()
+                .filter(replica -> replica.dataSource == dataSource)
+                .forEach(replica -> replica.update(false, replica.lagSeconds, cause.getMessage()));
+    }
+
+    @Scheduled(fixedDelayString = "${employee.datasource.replicas.health-check-interval-ms:5000}")
+    public void checkHealth() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection();
+                 Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery(lagQuery)) {
+                double lagSeconds = resultSet.next() ? resultSet.getDouble(1) : 0;
+                boolean withinBound = lagSeconds * 1000 <= maxLag.toMillis();
+                replica.update(withinBound, lagSeconds, withinBound ? null : "lag " + lagSeconds + "s exceeds " + maxLag);
+            } catch (SQLException e) {
+                replica.update(false, replica.lagSeconds, e.getMessage());
+            }
+        }
+    }
+
+    void bindTo(MeterRegistry registry) {
+        for (Replica replica : replicas) {
+            Gauge.builder("employee.datasource.replica.lag", replica, r -> r.lagSeconds)
+                    .tag("pool", replica.dataSource.getPoolName())
+                    .baseUnit("seconds")
+                    .description("Replication lag measured by the last health check")
+                    .register(registry);
+            Gauge.builder("employee.datasource.replica.eligible", replica, r -> r.eligible ? 1 : 0)
+                    .tag("pool", replica.dataSource.getPoolName())
+                    .description("1 while the replica receives read-only transactions")
+                    .register(registry);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        replicas.forEach(replica -> replica.dataSource.close());
+    }
+
+    private static final class Replica {
+
+        private final HikariDataSource dataSource;
+        private volatile boolean eligible;
+        private volatile double lagSeconds;
+
+        private Replica(HikariDataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+
+        private void update(boolean eligible, double lagSeconds, String reason) {
+            if (this.eligible != eligible) {
+                if (eligible) {
+                    logger.info("Replica {} in rotation (lag {}s)", dataSource.getPoolName(), lagSeconds);
+                } else {
+                    logger.warn("Replica {} out of rotation: {}", dataSource.getPoolName(), reason);
+                }
+            }
+            this.eligible = eligible;
+            this.lagSeconds = lagSeconds;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.employeemgmt.employeeservice.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Keeps a user's reads on the primary for a short window after they changed something,
+ * so they never read a replica that has not replayed their own write yet.
+ * Every non-GET request runs pinned, with or without X-User-Id, so reads inside a write never
+ * see a lagging replica. The window must cover the worst lag a replica can have while still
+ * eligible: max-lag plus one health-check interval. Writers are tracked per instance, by X-User-Id.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    private static final Set<String> READ_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReadYourWritesFilter(Duration window) {
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .maximumSize(100_000)
+                .build();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String userId = request.getHeader("X-User-Id");
+        boolean write = !READ_METHODS.contains(request.getMethod());
+        boolean pinned = write || (userId != null && recentWriters.getIfPresent(userId) != null);
+        boolean recordWriter = write && userId != null;
+        if (recordWriter) {
+            // Recorded before the response can reach the client, and again once the transaction is over
+            recentWriters.put(userId, Boolean.TRUE);
+        }
+        if (pinned) {
+            ReplicaRoutingDataSource.pinToPrimary();
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (pinned) {
+                ReplicaRoutingDataSource.unpin();
+            }
+            if (recordWriter) {
+                recentWriters.put(userId, Boolean.TRUE);
+            }
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.employeemgmt.employeeservice.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Read-only side of the routing datasource: connections come from the next eligible replica,
+ * or from the primary when no replica is eligible, a replica fails to connect, or the current
+ * thread is pinned to the primary for read-your-writes.
+ */
+public class ReplicaRoutingDataSource extends AbstractDataSource {
+
+    private static final ThreadLocal<Boolean> PINNED_TO_PRIMARY = new ThreadLocal<>();
+
+    private final DataSource primary;
+    private final ReadReplicas replicas;
+
+    public ReplicaRoutingDataSource(DataSource primary, ReadReplicas replicas) {
+        this.primary = primary;
+        this.replicas = replicas;
+    }
+
+    /**
+     * Sends read-only transactions on this thread to the primary until unpin() is called
+     */
+    public static void pinToPrimary() {
+        PINNED_TO_PRIMARY.set(Boolean.TRUE);
+    }
+
+    public static void unpin() {
+        PINNED_TO_PRIMARY.remove();
+    }
+
+    static boolean isPinnedToPrimary() {
+        return PINNED_TO_PRIMARY.get() != null;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!isPinnedToPrimary()) {
+            for (HikariDataSource replica = replicas.next(); replica != null; replica = replicas.next()) {
+                try {
+                    return replica.getConnection();
+                } catch (SQLException e) {
+                    replicas.markDown(replica, e);
+                }
+            }
+        }
+        return primary.getConnection();
+    }
+
+    /**
+     * Replica pools only hold connections for the configured credentials, so explicit ones go to the primary,
+     * which answers as it would without routing (a Hikari pool throws SQLFeatureNotSupportedException)
+     */
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return primary.getConnection(username, password);
+    }
+}
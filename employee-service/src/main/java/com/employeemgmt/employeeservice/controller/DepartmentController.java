@@ -9,9 +9,13 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import java.time.Duration;
 import java.util.List;
 
 @RestController
@@ -22,6 +26,9 @@ public class DepartmentController {
 
     private final DepartmentService departmentService;
 
+    @Value("${employee.http-cache.max-age:0s}")
+    private Duration readMaxAge;
+
     public DepartmentController(DepartmentService departmentService) {
         this.departmentService = departmentService;
     }
@@ -86,21 +93,35 @@ public class DepartmentController {
 
     @Operation(summary = "Get department by id")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Department retrieved")
+            @ApiResponse(responseCode = "200", description = "Department retrieved"),
+            @ApiResponse(responseCode = "304", description = "Not modified since the ETag in If-None-Match")
     })
     @GetMapping("/{id}")
     public ResponseEntity<DepartmentResponse> getDepartmentById(@PathVariable Long id) {
         DepartmentResponse response = departmentService.getDepartmentById(id);
-        return ResponseEntity.ok(response);
+        return conditional(response, EntityTags.of(response));
     }
 
     @Operation(summary = "List all departments")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Departments listed")
+            @ApiResponse(responseCode = "200", description = "Departments listed"),
+            @ApiResponse(responseCode = "304", description = "Not modified since the ETag in If-None-Match")
     })
     @GetMapping
     public ResponseEntity<List<DepartmentResponse>> getAllDepartments() {
         List<DepartmentResponse> departments = departmentService.getAllDepartments();
-        return ResponseEntity.ok(departments);
+        return conditional(departments, EntityTags.ofDepartments(departments));
+    }
+
+    /**
+     * 200 with validators; Spring answers a matching If-None-Match with 304 and skips writing the body
+     * Vary: Authorization keeps a shared cache from serving one caller's response to another.
+     */
+    private <T> ResponseEntity<T> conditional(T body, String etag) {
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.maxAge(readMaxAge).mustRevalidate())
+                .varyBy(HttpHeaders.AUTHORIZATION)
+                .body(body);
     }
 }
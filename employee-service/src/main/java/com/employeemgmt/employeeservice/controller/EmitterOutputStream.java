@@ -0,0 +1,50 @@
+package com.employeemgmt.employeeservice.controller;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Adapts a ResponseBodyEmitter to an OutputStream for writers that expect one
+ * Bytes are held until the writer flushes and then go out as a single chunk, so the client sees
+ * data at the writer's own flush points. An IOException from send (the client went away) surfaces
+ * from write or flush like it would on the servlet stream.
+ */
+final class EmitterOutputStream extends OutputStream {
+
+    private final ResponseBodyEmitter emitter;
+    private final MediaType mediaType;
+    private final ByteArrayOutputStream pending = new ByteArrayOutputStream();
+
+    EmitterOutputStream(ResponseBodyEmitter emitter, MediaType mediaType) {
+        this.emitter = emitter;
+        this.mediaType = mediaType;
+    }
+
+    @Override
+    public void write(int b) {
+        pending.write(b);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+        pending.write(b, off, len);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (pending.size() > 0) {
+            byte[] chunk = pending.toByteArray();
+            pending.reset();
+            emitter.send(chunk, mediaType);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        flush();
+    }
+}
@@ -1,13 +1,32 @@
 package com.employeemgmt.employeeservice.controller;
 
+import com.employeemgmt.employeeservice.dto.BulkEmployeeUpdateRequest;
+import com.employeemgmt.employeeservice.dto.BulkEmployeeUpdateResult;
+import com.employeemgmt.employeeservice.dto.CursorPage;
+import com.employeemgmt.employeeservice.dto.EmployeeImportResult;
 import com.employeemgmt.employeeservice.dto.EmployeeRequest;
 import com.employeemgmt.employeeservice.dto.EmployeeResponse;
+import com.employeemgmt.employeeservice.dto.ExportFormat;
+import com.employeemgmt.employeeservice.dto.TypeaheadSuggestion;
 import com.employeemgmt.employeeservice.entity.EmployeeStatus;
+import com.employeemgmt.employeeservice.search.EmployeeTypeaheadService;
+import com.employeemgmt.employeeservice.service.EmployeeBulkUpdateService;
+import com.employeemgmt.employeeservice.service.EmployeeImportService;
 import com.employeemgmt.employeeservice.service.EmployeeService;
 import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.Duration;
 import java.util.List;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -23,9 +42,29 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 public class EmployeeController {
 
     private final EmployeeService employeeService;
-
-    public EmployeeController(EmployeeService employeeService) {
+    private final EmployeeTypeaheadService typeaheadService;
+    private final EmployeeImportService importService;
+    private final EmployeeBulkUpdateService bulkUpdateService;
+    private final AsyncTaskExecutor exportExecutor;
+
+    @Value("${employee.http-cache.max-age:0s}")
+    private Duration readMaxAge;
+
+    // Exports stream from a database cursor for as long as the query runs; every other async
+    // request keeps the MVC default
+    @Value("${employee.export.timeout:30m}")
+    private Duration exportTimeout;
+
+    public EmployeeController(EmployeeService employeeService,
+                              EmployeeTypeaheadService typeaheadService,
+                              EmployeeImportService importService,
+                              EmployeeBulkUpdateService bulkUpdateService,
+                              @Qualifier("applicationTaskExecutor") AsyncTaskExecutor exportExecutor) {
         this.employeeService = employeeService;
+        this.typeaheadService = typeaheadService;
+        this.importService = importService;
+        this.bulkUpdateService = bulkUpdateService;
+        this.exportExecutor = exportExecutor;
     }
 
 @Operation(summary = "Create a new employee", description = "Only ADMIN can create employees")
@@ -49,6 +88,46 @@ public class EmployeeController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @Operation(summary = "Import employees from a JSON array",
+            description = "Only ADMIN. Valid rows are inserted in batches; rejected rows are reported by position")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Import finished; see errors for rejected rows"),
+            @ApiResponse(responseCode = "400", description = "Too many rows"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Only ADMIN allowed")
+    })
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<EmployeeImportResult> importEmployees(
+            @RequestBody List<EmployeeRequest> requests,
+            @RequestHeader(value = "X-User-Id", required = false) String userId,
+            @RequestHeader(value = "X-User-Role", required = false) String userRole) {
+
+        if (!"ADMIN".equals(userRole)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+
+        return ResponseEntity.ok(importService.importEmployees(requests, userId));
+    }
+
+    @Operation(summary = "Import employees from a CSV upload",
+            description = "Only ADMIN. Columns are matched by header name, so a CSV export can be imported as-is")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Import finished; see errors for rejected rows"),
+            @ApiResponse(responseCode = "400", description = "Unreadable CSV or too many rows"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Only ADMIN allowed")
+    })
+    @PostMapping(value = "/import", consumes = "text/csv")
+    public ResponseEntity<EmployeeImportResult> importEmployeesCsv(
+            InputStream csv,
+            @RequestHeader(value = "X-User-Id", required = false) String userId,
+            @RequestHeader(value = "X-User-Role", required = false) String userRole) {
+
+        if (!"ADMIN".equals(userRole)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+
+        return ResponseEntity.ok(importService.importCsv(csv, userId));
+    }
+
 
 
 @Operation(summary = "Update an employee", description = "Only ADMIN can update employees")
@@ -73,6 +152,27 @@ public class EmployeeController {
         return ResponseEntity.ok(response);
     }
 
+    @Operation(summary = "Change status and/or department of many employees",
+            description = "Only ADMIN. Runs as set-based updates in chunks; unknown ids are listed in notFound")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Employees updated"),
+            @ApiResponse(responseCode = "400", description = "Invalid input or unknown department"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Only ADMIN allowed")
+    })
+    @PatchMapping("/bulk")
+    public ResponseEntity<BulkEmployeeUpdateResult> bulkUpdateEmployees(
+            @Valid @RequestBody BulkEmployeeUpdateRequest request,
+            @RequestHeader(value = "X-User-Id", required = false) String userId,
+            @RequestHeader(value = "X-User-Role", required = false) String userRole) {
+
+        // Role-based access control: Only ADMIN can update employees
+        if (!"ADMIN".equals(userRole)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+
+        return ResponseEntity.ok(bulkUpdateService.updateEmployees(request, userId));
+    }
+
 @Operation(summary = "Delete employee by id", description = "Only ADMIN can delete employees")
 @ApiResponses(value = {
         @ApiResponse(responseCode = "204", description = "Employee deleted"),
@@ -96,6 +196,7 @@ public class EmployeeController {
 @Operation(summary = "Get employee by id", description = "ADMIN/MANAGER can view any, EMPLOYEE can view self")
 @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Employee retrieved"),
+        @ApiResponse(responseCode = "304", description = "Not modified since the ETag in If-None-Match"),
         @ApiResponse(responseCode = "403", description = "Forbidden")
 })
     @GetMapping("/{id}")
@@ -112,12 +213,13 @@ public class EmployeeController {
             return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
         }
 
-        return ResponseEntity.ok(response);
+        return conditional(response, EntityTags.of(response));
     }
 
     @Operation(summary = "Get employee code by id", description = "Only Emplyee can view employees")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "201", description = "Employee gotten successfully"),
+            @ApiResponse(responseCode = "304", description = "Not modified since the ETag in If-None-Match"),
             @ApiResponse(responseCode = "403", description = "Forbidden - not allowed"),
             @ApiResponse(responseCode = "400", description = "Invalid input")
     })
@@ -135,17 +237,20 @@ public class EmployeeController {
             return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
         }
 
-        return ResponseEntity.ok(response);
+        return conditional(response, EntityTags.of(response));
     }
 
 
-    @Operation(summary = "List all employees", description = "ADMIN and MANAGER only")
+    @Operation(summary = "List all employees", description = "ADMIN and MANAGER only. Keyset-paginated by id; pass nextCursor to get the next page")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Employees listed"),
+            @ApiResponse(responseCode = "304", description = "Not modified since the ETag in If-None-Match"),
             @ApiResponse(responseCode = "403", description = "Forbidden")
     })
     @GetMapping
-    public ResponseEntity<List<EmployeeResponse>> getAllEmployees(
+    public ResponseEntity<CursorPage<EmployeeResponse>> getAllEmployees(
+            @Parameter(description = "Opaque cursor from a previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (capped by the server)") @RequestParam(required = false) Integer size,
             @RequestHeader(value = "X-User-Role", required = false) String userRole) {
 
         // Only ADMIN and MANAGER can view all employees
@@ -153,18 +258,54 @@ public class EmployeeController {
             return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
         }
 
-        List<EmployeeResponse> employees = employeeService.getAllEmployees();
-        return ResponseEntity.ok(employees);
+        CursorPage<EmployeeResponse> employees = employeeService.getAllEmployees(cursor, size);
+        return conditional(employees, EntityTags.ofPage(employees));
     }
 
-    @Operation(summary = "List employees by department", description = "ADMIN and MANAGER only")
+    @Operation(summary = "Export the employee directory",
+            description = "ADMIN and MANAGER only. Streams every employee as NDJSON or CSV while the query runs")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Export streamed"),
+            @ApiResponse(responseCode = "403", description = "Forbidden")
+    })
+    @GetMapping("/export")
+    public ResponseEntity<ResponseBodyEmitter> exportEmployees(
+            @Parameter(description = "NDJSON or CSV") @RequestParam(defaultValue = "NDJSON") ExportFormat format,
+            @RequestHeader(value = "X-User-Role", required = false) String userRole) {
+
+        if ("EMPLOYEE".equals(userRole)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+
+        MediaType contentType = MediaType.parseMediaType(format.getContentType());
+        ResponseBodyEmitter emitter = new ResponseBodyEmitter(exportTimeout.toMillis());
+        exportExecutor.execute(() -> {
+            try (OutputStream out = new EmitterOutputStream(emitter, contentType)) {
+                employeeService.exportEmployees(format, out);
+            } catch (Exception e) {
+                emitter.completeWithError(e);
+                return;
+            }
+            emitter.complete();
+        });
+        return ResponseEntity.ok()
+                .contentType(contentType)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"employees." + format.getFileExtension() + "\"")
+                .body(emitter);
+    }
+
+    @Operation(summary = "List employees by department", description = "ADMIN and MANAGER only. Keyset-paginated by id")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Employees listed"),
+            @ApiResponse(responseCode = "304", description = "Not modified since the ETag in If-None-Match"),
             @ApiResponse(responseCode = "403", description = "Forbidden")
     })
     @GetMapping("/department/{departmentId}")
-    public ResponseEntity<List<EmployeeResponse>> getEmployeesByDepartment(
+    public ResponseEntity<CursorPage<EmployeeResponse>> getEmployeesByDepartment(
             @PathVariable Long departmentId,
+            @Parameter(description = "Opaque cursor from a previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (capped by the server)") @RequestParam(required = false) Integer size,
             @RequestHeader(value = "X-User-Role", required = false) String userRole) {
 
         // MANAGER can view employees in their department
@@ -173,45 +314,102 @@ public class EmployeeController {
             return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
         }
 
-        List<EmployeeResponse> employees = employeeService.getEmployeesByDepartment(departmentId);
-        return ResponseEntity.ok(employees);
+        CursorPage<EmployeeResponse> employees = employeeService.getEmployeesByDepartment(departmentId, cursor, size);
+        return conditional(employees, EntityTags.ofPage(employees));
     }
 
-    @Operation(summary = "List employees by status", description = "ADMIN and MANAGER only")
+    @Operation(summary = "List employees by status", description = "ADMIN and MANAGER only. Keyset-paginated by id")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Employees listed"),
+            @ApiResponse(responseCode = "304", description = "Not modified since the ETag in If-None-Match"),
             @ApiResponse(responseCode = "403", description = "Forbidden")
     })
     @GetMapping("/status/{status}")
-    public ResponseEntity<List<EmployeeResponse>> getEmployeesByStatus(
+    public ResponseEntity<CursorPage<EmployeeResponse>> getEmployeesByStatus(
             @PathVariable EmployeeStatus status,
+            @Parameter(description = "Opaque cursor from a previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (capped by the server)") @RequestParam(required = false) Integer size,
             @RequestHeader(value = "X-User-Role", required = false) String userRole) {
 
         if ("EMPLOYEE".equals(userRole)) {
             return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
         }
 
-        List<EmployeeResponse> employees = employeeService.getEmployeesByStatus(status);
-        return ResponseEntity.ok(employees);
+        CursorPage<EmployeeResponse> employees = employeeService.getEmployeesByStatus(status, cursor, size);
+        return conditional(employees, EntityTags.ofPage(employees));
     }
 
 
 
-    @Operation(summary = "Search employees by name", description = "ADMIN and MANAGER only")
+    @Operation(summary = "Search employees by name", description = "ADMIN and MANAGER only. Keyset-paginated by id")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Employees found"),
+            @ApiResponse(responseCode = "304", description = "Not modified since the ETag in If-None-Match"),
             @ApiResponse(responseCode = "403", description = "Forbidden")
     })
     @GetMapping("/search")
-    public ResponseEntity<List<EmployeeResponse>> searchEmployees(
+    public ResponseEntity<CursorPage<EmployeeResponse>> searchEmployees(
+            @RequestParam String name,
+            @Parameter(description = "Opaque cursor from a previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (capped by the server)") @RequestParam(required = false) Integer size,
+            @RequestHeader(value = "X-User-Role", required = false) String userRole) {
+
+        if ("EMPLOYEE".equals(userRole)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+
+        CursorPage<EmployeeResponse> employees = employeeService.searchEmployeesByName(name, cursor, size);
+        return conditional(employees, EntityTags.ofPage(employees));
+    }
+
+    @Operation(summary = "Search employees by name, best matches first",
+            description = "ADMIN and MANAGER only. Ranked by trigram similarity and limited")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Employees found"),
+            @ApiResponse(responseCode = "403", description = "Forbidden")
+    })
+    @GetMapping("/search/ranked")
+    public ResponseEntity<List<EmployeeResponse>> searchEmployeesRanked(
             @RequestParam String name,
+            @Parameter(description = "Maximum number of results (capped by the server)") @RequestParam(required = false) Integer limit,
             @RequestHeader(value = "X-User-Role", required = false) String userRole) {
 
         if ("EMPLOYEE".equals(userRole)) {
             return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
         }
 
-        List<EmployeeResponse> employees = employeeService.searchEmployeesByName(name);
+        List<EmployeeResponse> employees = employeeService.searchEmployeesRanked(name, limit);
         return ResponseEntity.ok(employees);
     }
+
+    @Operation(summary = "Typeahead suggestions",
+            description = "ADMIN and MANAGER only. Prefix match on name, email or employee code, served from memory")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Suggestions returned"),
+            @ApiResponse(responseCode = "403", description = "Forbidden")
+    })
+    @GetMapping("/typeahead")
+    public ResponseEntity<List<TypeaheadSuggestion>> typeahead(
+            @RequestParam String q,
+            @Parameter(description = "Maximum number of suggestions (capped by the server)") @RequestParam(required = false) Integer limit,
+            @RequestHeader(value = "X-User-Role", required = false) String userRole) {
+
+        if ("EMPLOYEE".equals(userRole)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+
+        return ResponseEntity.ok(typeaheadService.suggest(q, limit));
+    }
+
+    /**
+     * 200 with validators; Spring answers a matching If-None-Match with 304 and skips writing the body
+     * Vary: Authorization keeps a shared cache from serving one caller's response to another.
+     */
+    private <T> ResponseEntity<T> conditional(T body, String etag) {
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.maxAge(readMaxAge).mustRevalidate())
+                .varyBy(HttpHeaders.AUTHORIZATION)
+                .body(body);
+    }
 }
@@ -0,0 +1,126 @@
+package com.employeemgmt.employeeservice.controller;
+
+import com.employeemgmt.employeeservice.dto.EmployeeResponse;
+import com.employeemgmt.employeeservice.entity.EmployeeStatus;
+import com.employeemgmt.employeeservice.service.EmployeeStreamService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Streaming directory reads served over R2DBC
+ * Employees are written as NDJSON lines in chunks of up to rows-per-chunk, or whatever has arrived
+ * after chunk-delay; the next chunk is only requested once the previous one has been written, so the
+ * client's read rate paces the query. Chunking saves Spring MVC a write and flush per employee.
+ */
+@RestController
+@RequestMapping(value = "/employees/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+@Tag(name = "Employee Streams", description = "Non-blocking NDJSON streams of directory queries")
+@SecurityRequirement(name = "Bearer Authentication")
+public class EmployeeStreamController {
+
+    private final EmployeeStreamService employeeStreamService;
+    private final ObjectMapper objectMapper;
+
+    @Value("${employee.stream.rows-per-chunk:100}")
+    private int rowsPerChunk;
+
+    @Value("${employee.stream.chunk-delay:50ms}")
+    private Duration chunkDelay;
+
+    public EmployeeStreamController(EmployeeStreamService employeeStreamService, ObjectMapper objectMapper) {
+        this.employeeStreamService = employeeStreamService;
+        this.objectMapper = objectMapper;
+    }
+
+    @Operation(summary = "Stream employees by department", description = "ADMIN and MANAGER only. Ordered by id")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Employees streamed"),
+            @ApiResponse(responseCode = "403", description = "Forbidden")
+    })
+    @GetMapping("/department/{departmentId}")
+    public ResponseEntity<Flux<String>> streamEmployeesByDepartment(
+            @PathVariable Long departmentId,
+            @RequestHeader(value = "X-User-Role", required = false) String userRole) {
+
+        if ("EMPLOYEE".equals(userRole)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+
+        return stream(employeeStreamService.streamEmployeesByDepartment(departmentId));
+    }
+
+    @Operation(summary = "Stream employees by status", description = "ADMIN and MANAGER only. Ordered by id")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Employees streamed"),
+            @ApiResponse(responseCode = "403", description = "Forbidden")
+    })
+    @GetMapping("/status/{status}")
+    public ResponseEntity<Flux<String>> streamEmployeesByStatus(
+            @PathVariable EmployeeStatus status,
+            @RequestHeader(value = "X-User-Role", required = false) String userRole) {
+
+        if ("EMPLOYEE".equals(userRole)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+
+        return stream(employeeStreamService.streamEmployeesByStatus(status));
+    }
+
+    @Operation(summary = "Stream employees matching a name", description = "ADMIN and MANAGER only. Ordered by id")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Employees streamed"),
+            @ApiResponse(responseCode = "400", description = "Blank name"),
+            @ApiResponse(responseCode = "403", description = "Forbidden")
+    })
+    @GetMapping("/search")
+    public ResponseEntity<Flux<String>> searchEmployees(
+            @RequestParam String name,
+            @RequestHeader(value = "X-User-Role", required = false) String userRole) {
+
+        if ("EMPLOYEE".equals(userRole)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+
+        return stream(employeeStreamService.searchEmployeesByName(name));
+    }
+
+    // Streams are never cached: the gateway's response cache would have to buffer them whole
+    private ResponseEntity<Flux<String>> stream(Flux<EmployeeResponse> employees) {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(employees.bufferTimeout(rowsPerChunk, chunkDelay, true).map(this::toNdjson));
+    }
+
+    private String toNdjson(List<EmployeeResponse> chunk) {
+        StringBuilder lines = new StringBuilder();
+        try {
+            for (EmployeeResponse employee : chunk) {
+                lines.append(objectMapper.writeValueAsString(employee)).append('\n');
+            }
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to serialize employee", e);
+        }
+        return lines.toString();
+    }
+}
@@ -0,0 +1,88 @@
+package com.employeemgmt.employeeservice.controller;
+
+import com.employeemgmt.employeeservice.dto.CursorPage;
+import com.employeemgmt.employeeservice.dto.DepartmentResponse;
+import com.employeemgmt.employeeservice.dto.EmployeeResponse;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * Strong ETags computed from what versions a representation, not from its serialized bytes
+ * An employee is versioned by id, updatedAt and its embedded department name (renames do not touch
+ * the employee row); a department by id, updatedAt and employee count. A collection's tag combines
+ * its items' tags and paging state. Computing a tag needs no JSON, so a matching If-None-Match
+ * is answered with 304 before anything is serialized.
+ */
+final class EntityTags {
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private EntityTags() {
+    }
+
+    static String of(EmployeeResponse employee) {
+        return quote(employee(FNV_OFFSET, employee));
+    }
+
+    static String of(DepartmentResponse department) {
+        return quote(department(FNV_OFFSET, department));
+    }
+
+    static String ofPage(CursorPage<EmployeeResponse> page) {
+        long hash = mix(FNV_OFFSET, page.isHasNext() ? 1 : 0);
+        hash = mix(hash, page.getNextCursor());
+        for (EmployeeResponse employee : page.getItems()) {
+            hash = employee(hash, employee);
+        }
+        return quote(hash);
+    }
+
+    static String ofDepartments(Collection<DepartmentResponse> departments) {
+        long hash = mix(FNV_OFFSET, departments.size());
+        for (DepartmentResponse department : departments) {
+            hash = department(hash, department);
+        }
+        return quote(hash);
+    }
+
+    private static long employee(long hash, EmployeeResponse employee) {
+        hash = mix(hash, employee.getId());
+        hash = mix(hash, employee.getUpdatedAt());
+        return mix(hash, employee.getDepartmentName());
+    }
+
+    private static long department(long hash, DepartmentResponse department) {
+        hash = mix(hash, department.getId());
+        hash = mix(hash, department.getUpdatedAt());
+        return mix(hash, department.getEmployeeCount());
+    }
+
+    private static long mix(long hash, LocalDateTime value) {
+        return value == null ? mix(hash, 0L) : mix(mix(hash, value.toLocalDate().toEpochDay()), value.toLocalTime().toNanoOfDay());
+    }
+
+    private static long mix(long hash, Object value) {
+        if (value instanceof Number number) {
+            return mix(hash, number.longValue());
+        }
+        String text = value == null ? "" : value.toString();
+        for (int i = 0; i < text.length(); i++) {
+            hash = (hash ^ text.charAt(i)) * FNV_PRIME;
+        }
+        return (hash ^ 0xff) * FNV_PRIME;
+    }
+
+    private static long mix(long hash, long value) {
+        for (int i = 0; i < 8; i++) {
+            hash = (hash ^ (value & 0xff)) * FNV_PRIME;
+            value >>>= 8;
+        }
+        return hash;
+    }
+
+    private static String quote(long hash) {
+        return "\"" + Long.toHexString(hash) + "\"";
+    }
+}
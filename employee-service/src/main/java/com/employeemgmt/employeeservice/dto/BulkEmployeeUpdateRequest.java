@@ -0,0 +1,22 @@
+package com.employeemgmt.employeeservice.dto;
+
+import com.employeemgmt.employeeservice.entity.EmployeeStatus;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Moves many employees to a new status and/or department; fields left null are not changed
+ */
+@Data
+public class BulkEmployeeUpdateRequest {
+
+    @NotEmpty(message = "At least one employee id is required")
+    private List<@NotNull(message = "Employee ids must not be null") Long> employeeIds;
+
+    private EmployeeStatus status;
+
+    private Long departmentId;
+}
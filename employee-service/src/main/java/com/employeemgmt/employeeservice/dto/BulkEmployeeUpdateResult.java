@@ -0,0 +1,21 @@
+package com.employeemgmt.employeeservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk status/department update
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkEmployeeUpdateResult {
+    private int requested;
+    private int updated;
+    private List<Long> notFound;
+}
@@ -0,0 +1,31 @@
+package com.employeemgmt.employeeservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk employee import
+ * Valid rows are imported; every rejected row is listed with its 1-based position in the upload
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeImportResult {
+    private int received;
+    private int imported;
+    private List<RowError> errors;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowError {
+        private int row;
+        private String employeeId;
+        private String message;
+    }
+}
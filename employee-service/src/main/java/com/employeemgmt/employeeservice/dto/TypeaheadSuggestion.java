@@ -0,0 +1,21 @@
+package com.employeemgmt.employeeservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Lightweight employee match returned by the typeahead endpoint
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TypeaheadSuggestion {
+    private Long id;
+    private String employeeId;
+    private String firstName;
+    private String lastName;
+    private String email;
+}
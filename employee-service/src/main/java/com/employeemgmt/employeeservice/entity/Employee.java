@@ -15,8 +15,13 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 public class Employee {
 
+    /**
+     * Drawn from employees_id_seq before the insert, so Hibernate can batch inserts.
+     * The pooled optimizer hands out a block of ids per sequence call (see V6).
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "employees_id_seq")
+    @SequenceGenerator(name = "employees_id_seq", sequenceName = "employees_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "employee_id", unique = true, nullable = false, length = 20)
@@ -31,6 +36,12 @@ public class Employee {
     @Column(unique = true, nullable = false, length = 100)
     private String email;
 
+    /**
+     * Lower-cased "first last" name computed by the database (V4) and trigram-indexed for name search
+     */
+    @Column(name = "search_name", length = 101, insertable = false, updatable = false)
+    private String searchName;
+
     @Column(length = 20)
     private String phone;
 
@@ -0,0 +1,46 @@
+package com.employeemgmt.employeeservice.entity;
+
+import com.employeemgmt.employeeservice.event.EventType;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
+
+/**
+ * An employee event waiting to be relayed to Kafka
+ * The payload is the JSON form of the EmployeeEvent; messageKey is its Kafka record key.
+ */
+@Entity
+@Table(name = "employee_event_outbox")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxEvent {
+
+    // One id per nextval(), never a pooled block: the relay sends in id order, and blocks held by
+    // different instances would let a later event for a key get a lower id than an earlier one
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "employee_event_outbox_id_seq")
+    @SequenceGenerator(name = "employee_event_outbox_id_seq", sequenceName = "employee_event_outbox_id_seq",
+            allocationSize = 1)
+    private Long id;
+
+    @Column(name = "message_key", nullable = false, length = 20)
+    private String messageKey;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 40)
+    private EventType eventType;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
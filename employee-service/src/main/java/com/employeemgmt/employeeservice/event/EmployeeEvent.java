@@ -7,12 +7,19 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class EmployeeEvent {
+
+    /**
+     * Record key of bulk events, which describe many employees at once
+     */
+    public static final String BULK_RECORD_KEY = "employees-bulk";
+
     private EventType eventType;
     private Long employeeId;
     private String employeeIdCode;
@@ -26,4 +33,20 @@ public class EmployeeEvent {
     private EmployeeStatus status;
     private String performedBy;
     private LocalDateTime timestamp;
+
+    /**
+     * Employees touched by an EMPLOYEE_BULK_UPDATED event; status and department fields carry the new values
+     */
+    private List<Long> employeeIds;
+
+    /**
+     * Kafka record key: the employee code, or a shared key for bulk events
+     * Bulk events are ordered only among themselves. They usually land on a different partition
+     * than the same employee's single-employee events, so a consumer can see a bulk change and an
+     * EMPLOYEE_UPDATED for one employee in either order. It must compare timestamp per employee and
+     * ignore anything older than what it has already applied.
+     */
+    public String recordKey() {
+        return employeeIdCode != null ? employeeIdCode : BULK_RECORD_KEY;
+    }
 }
@@ -4,6 +4,7 @@ public enum EventType {
     EMPLOYEE_CREATED,
     EMPLOYEE_UPDATED,
     EMPLOYEE_DELETED,
+    EMPLOYEE_BULK_UPDATED,
     DEPARTMENT_CREATED,
     DEPARTMENT_UPDATED,
     DEPARTMENT_DELETED
@@ -0,0 +1,33 @@
+package com.employeemgmt.employeeservice.kafka;
+
+import com.employeemgmt.employeeservice.event.EmployeeEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Deserializer;
+
+import java.io.IOException;
+
+/**
+ * Kafka value deserializer for EmployeeEvent
+ * Reads the binary format of EmployeeEventCodec; records written as JSON before the switch
+ * (first byte '{') are still accepted, so consumers can be upgraded ahead of producers.
+ */
+public class EmployeeEventBinaryDeserializer implements Deserializer<EmployeeEvent> {
+
+    private static final ObjectMapper JSON = new ObjectMapper().findAndRegisterModules();
+
+    @Override
+    public EmployeeEvent deserialize(String topic, byte[] data) {
+        if (data == null || data.length == 0) {
+            return null;
+        }
+        try {
+            if (data[0] == '{') {
+                return JSON.readValue(data, EmployeeEvent.class);
+            }
+            return EmployeeEventCodec.decode(data);
+        } catch (IOException | IllegalArgumentException e) {
+            throw new SerializationException("Cannot deserialize employee event from " + topic, e);
+        }
+    }
+}
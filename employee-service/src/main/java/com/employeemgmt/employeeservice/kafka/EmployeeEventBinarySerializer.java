@@ -0,0 +1,16 @@
+package com.employeemgmt.employeeservice.kafka;
+
+import com.employeemgmt.employeeservice.event.EmployeeEvent;
+import org.apache.kafka.common.serialization.Serializer;
+
+/**
+ * Kafka value serializer writing EmployeeEvent in the compact binary format of EmployeeEventCodec
+ * Enable with spring.kafka.producer.value-serializer set to this class.
+ */
+public class EmployeeEventBinarySerializer implements Serializer<EmployeeEvent> {
+
+    @Override
+    public byte[] serialize(String topic, EmployeeEvent event) {
+        return event == null ? null : EmployeeEventCodec.encode(event);
+    }
+}
@@ -0,0 +1,263 @@
+package com.employeemgmt.employeeservice.kafka;
+
+import com.employeemgmt.employeeservice.entity.EmployeeStatus;
+import com.employeemgmt.employeeservice.event.EmployeeEvent;
+import com.employeemgmt.employeeservice.event.EventType;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Binary encoding of EmployeeEvent
+ *
+ * <pre>
+ * header   magic (1 byte, 0xE7), schema version (1 byte)
+ * presence 2 bytes, bit i set when field i is non-null
+ * fields   in schema order, absent fields take no space:
+ *   0 eventType       index in EVENT_TYPES (1 byte)
+ *   1 employeeId      zig-zag varint
+ *   2 employeeIdCode  varint length + UTF-8
+ *   3 firstName       varint length + UTF-8
+ *   4 lastName        varint length + UTF-8
+ *   5 email           varint length + UTF-8
+ *   6 position        varint length + UTF-8
+ *   7 departmentId    zig-zag varint
+ *   8 departmentName  varint length + UTF-8
+ *   9 salary          varint scale + varint length + unscaled two's-complement bytes
+ *  10 status          index in STATUSES (1 byte)
+ *  11 performedBy     varint length + UTF-8
+ *  12 timestamp       zig-zag varint epoch seconds (UTC) + varint nanos
+ *  13 employeeIds     varint count + zig-zag varint deltas from the previous id (first from 0)
+ * </pre>
+ *
+ * Enum constants are encoded by their position in the arrays below, which are part of the schema:
+ * append new constants at the end. Fields may also be appended (decoders skip presence bits they
+ * do not know, and an appended field is the last thing in the record); bump VERSION for any other change.
+ */
+final class EmployeeEventCodec {
+
+    static final byte MAGIC = (byte) 0xE7;
+    static final byte VERSION = 1;
+
+    private static final EventType[] EVENT_TYPES = {
+            EventType.EMPLOYEE_CREATED, EventType.EMPLOYEE_UPDATED, EventType.EMPLOYEE_DELETED,
+            EventType.DEPARTMENT_CREATED, EventType.DEPARTMENT_UPDATED, EventType.DEPARTMENT_DELETED,
+            EventType.EMPLOYEE_BULK_UPDATED
+    };
+    private static final EmployeeStatus[] STATUSES = {
+            EmployeeStatus.ACTIVE, EmployeeStatus.INACTIVE, EmployeeStatus.ON_LEAVE, EmployeeStatus.TERMINATED
+    };
+
+    private EmployeeEventCodec() {
+    }
+
+    static byte[] encode(EmployeeEvent event) {
+        Writer out = new Writer();
+        out.writeByte(MAGIC);
+        out.writeByte(VERSION);
+
+        Object[] fields = {
+                event.getEventType(), event.getEmployeeId(), event.getEmployeeIdCode(), event.getFirstName(),
+                event.getLastName(), event.getEmail(), event.getPosition(), event.getDepartmentId(),
+                event.getDepartmentName(), event.getSalary(), event.getStatus(), event.getPerformedBy(),
+                event.getTimestamp(), event.getEmployeeIds()
+        };
+        int presence = 0;
+        for (int i = 0; i < fields.length; i++) {
+            if (fields[i] != null) {
+                presence |= 1 << i;
+            }
+        }
+        out.writeByte(presence >>> 8);
+        out.writeByte(presence);
+
+        if (event.getEventType() != null) out.writeByte(indexOf(EVENT_TYPES, event.getEventType()));
+        if (event.getEmployeeId() != null) out.writeSignedVarLong(event.getEmployeeId());
+        if (event.getEmployeeIdCode() != null) out.writeString(event.getEmployeeIdCode());
+        if (event.getFirstName() != null) out.writeString(event.getFirstName());
+        if (event.getLastName() != null) out.writeString(event.getLastName());
+        if (event.getEmail() != null) out.writeString(event.getEmail());
+        if (event.getPosition() != null) out.writeString(event.getPosition());
+        if (event.getDepartmentId() != null) out.writeSignedVarLong(event.getDepartmentId());
+        if (event.getDepartmentName() != null) out.writeString(event.getDepartmentName());
+        if (event.getSalary() != null) out.writeDecimal(event.getSalary());
+        if (event.getStatus() != null) out.writeByte(indexOf(STATUSES, event.getStatus()));
+        if (event.getPerformedBy() != null) out.writeString(event.getPerformedBy());
+        if (event.getTimestamp() != null) {
+            out.writeSignedVarLong(event.getTimestamp().toEpochSecond(ZoneOffset.UTC));
+            out.writeVarLong(event.getTimestamp().getNano());
+        }
+        if (event.getEmployeeIds() != null) {
+            out.writeVarLong(event.getEmployeeIds().size());
+            long previous = 0;
+            for (Long id : event.getEmployeeIds()) {
+                out.writeSignedVarLong(id - previous);
+                previous = id;
+            }
+        }
+        return Arrays.copyOf(out.buffer, out.position);
+    }
+
+    static EmployeeEvent decode(byte[] data) {
+        ByteBuffer in = ByteBuffer.wrap(data);
+        try {
+            if (in.get() != MAGIC) {
+                throw new IllegalArgumentException("Not a binary employee event");
+            }
+            byte version = in.get();
+            if (version != VERSION) {
+                throw new IllegalArgumentException("Unsupported employee event schema version: " + version);
+            }
+            int presence = (in.get() & 0xFF) << 8 | in.get() & 0xFF;
+
+            EmployeeEvent event = new EmployeeEvent();
+            if (present(presence, 0)) event.setEventType(EVENT_TYPES[in.get()]);
+            if (present(presence, 1)) event.setEmployeeId(readSignedVarLong(in));
+            if (present(presence, 2)) event.setEmployeeIdCode(readString(in));
+            if (present(presence, 3)) event.setFirstName(readString(in));
+            if (present(presence, 4)) event.setLastName(readString(in));
+            if (present(presence, 5)) event.setEmail(readString(in));
+            if (present(presence, 6)) event.setPosition(readString(in));
+            if (present(presence, 7)) event.setDepartmentId(readSignedVarLong(in));
+            if (present(presence, 8)) event.setDepartmentName(readString(in));
+            if (present(presence, 9)) event.setSalary(readDecimal(in));
+            if (present(presence, 10)) event.setStatus(STATUSES[in.get()]);
+            if (present(presence, 11)) event.setPerformedBy(readString(in));
+            if (present(presence, 12)) {
+                long epochSecond = readSignedVarLong(in);
+                event.setTimestamp(LocalDateTime.ofEpochSecond(epochSecond, (int) readVarLong(in), ZoneOffset.UTC));
+            }
+            if (present(presence, 13)) {
+                // Every id takes at least one byte, so a larger count is corrupt
+                int count = readLength(in);
+                List<Long> ids = new ArrayList<>(count);
+                long previous = 0;
+                for (int i = 0; i < count; i++) {
+                    previous += readSignedVarLong(in);
+                    ids.add(previous);
+                }
+                event.setEmployeeIds(ids);
+            }
+            return event;
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | DateTimeException e) {
+            throw new IllegalArgumentException("Truncated or corrupt employee event", e);
+        }
+    }
+
+    private static boolean present(int presence, int field) {
+        return (presence & 1 << field) != 0;
+    }
+
+    private static <T> int indexOf(T[] values, T value) {
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] == value) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("No binary encoding for " + value);
+    }
+
+    private static long readVarLong(ByteBuffer in) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint");
+    }
+
+    private static long readSignedVarLong(ByteBuffer in) {
+        long raw = readVarLong(in);
+        return raw >>> 1 ^ -(raw & 1);
+    }
+
+    /**
+     * A byte (or element) count read from the payload, checked against what is left so corrupt
+     * input cannot trigger a huge allocation or a negative slice
+     */
+    private static int readLength(ByteBuffer in) {
+        long length = readVarLong(in);
+        if (length < 0 || length > in.remaining()) {
+            throw new IllegalArgumentException("Corrupt employee event: length " + length
+                    + " exceeds the " + in.remaining() + " bytes left");
+        }
+        return (int) length;
+    }
+
+    private static String readString(ByteBuffer in) {
+        int length = readLength(in);
+        String value = new String(in.array(), in.position(), length, StandardCharsets.UTF_8);
+        in.position(in.position() + length);
+        return value;
+    }
+
+    private static BigDecimal readDecimal(ByteBuffer in) {
+        int scale = (int) readSignedVarLong(in);
+        byte[] unscaled = new byte[readLength(in)];
+        in.get(unscaled);
+        return new BigDecimal(new BigInteger(unscaled), scale);
+    }
+
+    /**
+     * Growable output buffer; events are small, so 128 bytes rarely needs to grow
+     */
+    private static final class Writer {
+        private byte[] buffer = new byte[128];
+        private int position;
+
+        void writeByte(int value) {
+            ensure(1);
+            buffer[position++] = (byte) value;
+        }
+
+        void writeVarLong(long value) {
+            ensure(10);
+            while ((value & ~0x7FL) != 0) {
+                buffer[position++] = (byte) (value & 0x7F | 0x80);
+                value >>>= 7;
+            }
+            buffer[position++] = (byte) value;
+        }
+
+        void writeSignedVarLong(long value) {
+            writeVarLong(value << 1 ^ value >> 63);
+        }
+
+        void writeString(String value) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarLong(bytes.length);
+            writeBytes(bytes);
+        }
+
+        void writeDecimal(BigDecimal value) {
+            byte[] unscaled = value.unscaledValue().toByteArray();
+            writeSignedVarLong(value.scale());
+            writeVarLong(unscaled.length);
+            writeBytes(unscaled);
+        }
+
+        private void writeBytes(byte[] bytes) {
+            ensure(bytes.length);
+            System.arraycopy(bytes, 0, buffer, position, bytes.length);
+            position += bytes.length;
+        }
+
+        private void ensure(int extra) {
+            if (position + extra > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + extra));
+            }
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.employeemgmt.employeeservice.kafka;
+
+import com.employeemgmt.employeeservice.entity.OutboxEvent;
+import com.employeemgmt.employeeservice.event.EmployeeEvent;
+import com.employeemgmt.employeeservice.repository.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Records employee events in the outbox table as part of the caller's transaction
+ * The event is published by OutboxRelay only if that transaction commits.
+ */
+@Component
+public class EmployeeEventOutbox {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    public EmployeeEventOutbox(OutboxEventRepository outboxEventRepository, ObjectMapper objectMapper) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(EmployeeEvent event) {
+        outboxEventRepository.save(toOutboxEvent(event));
+    }
+
+    /**
+     * Records several events at once; the inserts go out in JDBC batches
+     * and the relay publishes them together on its next run
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void appendAll(List<EmployeeEvent> events) {
+        outboxEventRepository.saveAll(events.stream().map(this::toOutboxEvent).toList());
+    }
+
+    private OutboxEvent toOutboxEvent(EmployeeEvent event) {
+        OutboxEvent outboxEvent = new OutboxEvent();
+        outboxEvent.setMessageKey(event.recordKey());
+        outboxEvent.setEventType(event.getEventType());
+        try {
+            outboxEvent.setPayload(objectMapper.writeValueAsString(event));
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to serialize employee event: " + event.getEventType(), e);
+        }
+        return outboxEvent;
+    }
+}
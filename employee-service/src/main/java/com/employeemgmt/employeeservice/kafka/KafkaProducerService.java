@@ -2,37 +2,90 @@ package com.employeemgmt.employeeservice.kafka;
 
 import com.employeemgmt.employeeservice.config.KafkaConfig;
 import com.employeemgmt.employeeservice.event.EmployeeEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Service;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * Sends employee events with a bounded number of unacknowledged records
+ * When max-in-flight sends are outstanding, callers block for up to max-block-ms and are then
+ * rejected, so a slow broker pushes back on the outbox relay instead of filling the heap.
+ * Each send is recorded in the employee.events.send timer (tagged by event type and outcome).
+ */
 @Service
 public class KafkaProducerService {
 
     private static final Logger logger = LoggerFactory.getLogger(KafkaProducerService.class);
 
     private final KafkaTemplate<String, EmployeeEvent> kafkaTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Semaphore inFlight;
+    private final long maxBlockMs;
+    private final Counter rejected;
 
-    public KafkaProducerService(KafkaTemplate<String, EmployeeEvent> kafkaTemplate) {
+    public KafkaProducerService(KafkaTemplate<String, EmployeeEvent> kafkaTemplate,
+                                MeterRegistry meterRegistry,
+                                @Value("${employee.kafka.max-in-flight:10000}") int maxInFlight,
+                                @Value("${employee.kafka.max-block-ms:60000}") long maxBlockMs) {
         this.kafkaTemplate = kafkaTemplate;
+        this.meterRegistry = meterRegistry;
+        this.inFlight = new Semaphore(maxInFlight);
+        this.maxBlockMs = maxBlockMs;
+        this.rejected = Counter.builder("employee.events.rejected")
+                .description("Sends refused because the in-flight window stayed full")
+                .register(meterRegistry);
+        Gauge.builder("employee.events.in-flight", inFlight, permits -> maxInFlight - permits.availablePermits())
+                .description("Sends awaiting a broker acknowledgement")
+                .register(meterRegistry);
     }
 
-    public void sendEmployeeEvent(EmployeeEvent event) {
-        logger.info("Sending employee event: {}", event.getEventType());
+    /**
+     * Sends the event keyed by employee code; the returned future completes when the broker acknowledges it
+     */
+    public CompletableFuture<SendResult<String, EmployeeEvent>> sendEmployeeEvent(EmployeeEvent event) {
+        acquirePermit(event);
+        Timer.Sample sample = Timer.start(meterRegistry);
 
-        CompletableFuture<SendResult<String, EmployeeEvent>> future =
-                kafkaTemplate.send(KafkaConfig.EMPLOYEE_EVENTS_TOPIC, event.getEmployeeIdCode(), event);
+        CompletableFuture<SendResult<String, EmployeeEvent>> future;
+        try {
+            future = kafkaTemplate.send(KafkaConfig.EMPLOYEE_EVENTS_TOPIC, event.recordKey(), event);
+        } catch (RuntimeException e) {
+            inFlight.release();
+            throw e;
+        }
 
         future.whenComplete((result, ex) -> {
-            if (ex == null) {
-                logger.info("Successfully sent employee event: {} with offset: {}",
-                        event.getEventType(), result.getRecordMetadata().offset());
-            } else {
+            inFlight.release();
+            sample.stop(Timer.builder("employee.events.send")
+                    .tag("eventType", String.valueOf(event.getEventType()))
+                    .tag("outcome", ex == null ? "success" : "failure")
+                    .register(meterRegistry));
+            if (ex != null) {
                 logger.error("Failed to send employee event: {}", event.getEventType(), ex);
             }
         });
+        return future;
+    }
+
+    private void acquirePermit(EmployeeEvent event) {
+        try {
+            if (!inFlight.tryAcquire(maxBlockMs, TimeUnit.MILLISECONDS)) {
+                rejected.increment();
+                throw new RuntimeException("Too many employee events in flight, rejected: " + event.getEventType());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting to send employee event", e);
+        }
     }
 }
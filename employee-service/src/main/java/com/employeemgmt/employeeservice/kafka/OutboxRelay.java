@@ -0,0 +1,167 @@
+package com.employeemgmt.employeeservice.kafka;
+
+import com.employeemgmt.employeeservice.entity.OutboxEvent;
+import com.employeemgmt.employeeservice.event.EmployeeEvent;
+import com.employeemgmt.employeeservice.repository.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+/**
+ * Drains the employee event outbox to Kafka
+ * Only one instance relays at a time: each batch transaction first takes a PostgreSQL advisory
+ * lock, and instances that do not get it skip the run. Within the leader, events are split into
+ * lanes by record key and a key is always sent in outbox order on the same lane.
+ * A batch is published and deleted in one transaction. If any send fails or is not acknowledged
+ * within send-timeout-ms, the transaction rolls back and the whole batch is sent again. Delivery
+ * is at-least-once: events of a retried batch can arrive a second time after later events for
+ * the same key, so consumers must apply them idempotently (compare updatedAt/timestamp).
+ */
+@Component
+@ConditionalOnProperty(name = "employee.outbox.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelay {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboxRelay.class);
+
+    // pg advisory lock id shared by every employee-service instance ("outbox" in ASCII)
+    static final long RELAY_LOCK_KEY = 0x6f7574626f78L;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final KafkaProducerService kafkaProducerService;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${employee.outbox.batch-size:500}")
+    private int batchSize;
+
+    @Value("${employee.outbox.parallelism:4}")
+    private int parallelism;
+
+    // The batch transaction holds the relay lock and one pooled connection while it waits for acks,
+    // so keep this well below the pool's leak-detection threshold
+    @Value("${employee.outbox.send-timeout-ms:5000}")
+    private long sendTimeoutMs;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    private Executor lanes;
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       KafkaProducerService kafkaProducerService,
+                       ObjectMapper objectMapper,
+                       PlatformTransactionManager transactionManager) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.kafkaProducerService = kafkaProducerService;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @PostConstruct
+    void start() {
+        // Lanes mostly wait on broker acks; on virtual threads that wait does not pin a platform thread
+        lanes = virtualThreads
+                ? new VirtualThreadTaskExecutor("outbox-relay-")
+                : Executors.newFixedThreadPool(parallelism, new CustomizableThreadFactory("outbox-relay-"));
+    }
+
+    @PreDestroy
+    void stop() {
+        if (lanes instanceof ExecutorService executorService) {
+            executorService.shutdown();
+        }
+    }
+
+    /**
+     * Runs linger-ms after the previous run finished; keeps draining while batches come back full
+     */
+    @Scheduled(fixedDelayString = "${employee.outbox.linger-ms:200}")
+    public void drain() {
+        try {
+            Integer relayed;
+            do {
+                relayed = transactionTemplate.execute(status -> relayBatch());
+            } while (relayed != null && relayed == batchSize);
+        } catch (RuntimeException e) {
+            logger.warn("Outbox relay failed, batch will be retried: {}", e.getMessage());
+        }
+    }
+
+    private int relayBatch() {
+        if (!outboxEventRepository.tryRelayLock(RELAY_LOCK_KEY)) {
+            logger.debug("Another instance is relaying the outbox");
+            return 0;
+        }
+        List<OutboxEvent> batch = outboxEventRepository.findPending(Limit.of(batchSize));
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        Map<Integer, List<OutboxEvent>> byLane = batch.stream()
+                .collect(Collectors.groupingBy(event -> Math.floorMod(event.getMessageKey().hashCode(), parallelism),
+                        LinkedHashMap::new, Collectors.toList()));
+
+        CompletableFuture<?>[] laneResults = byLane.values().stream()
+                .map(events -> CompletableFuture.runAsync(() -> sendInOrder(events), lanes))
+                .toArray(CompletableFuture[]::new);
+        await(CompletableFuture.allOf(laneResults));
+
+        outboxEventRepository.deleteAllByIdInBatch(batch.stream().map(OutboxEvent::getId).toList());
+        logger.debug("Relayed {} employee events", batch.size());
+        return batch.size();
+    }
+
+    private void sendInOrder(List<OutboxEvent> events) {
+        List<CompletableFuture<?>> acks = new ArrayList<>(events.size());
+        for (OutboxEvent event : events) {
+            acks.add(kafkaProducerService.sendEmployeeEvent(readEvent(event)));
+        }
+        CompletableFuture.allOf(acks.toArray(CompletableFuture[]::new)).join();
+    }
+
+    private EmployeeEvent readEvent(OutboxEvent event) {
+        try {
+            return objectMapper.readValue(event.getPayload(), EmployeeEvent.class);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Unreadable outbox event: " + event.getId(), e);
+        }
+    }
+
+    private void await(CompletableFuture<?> sends) {
+        try {
+            sends.get(sendTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while relaying outbox events", e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Failed to relay outbox events", e.getCause());
+        } catch (TimeoutException e) {
+            throw new RuntimeException("Timed out relaying outbox events", e);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.employeemgmt.employeeservice.repository;
+
+/**
+ * Projection of the per-department employee count aggregate
+ */
+public interface DepartmentEmployeeCount {
+    Long getDepartmentId();
+
+    Long getEmployeeCount();
+}
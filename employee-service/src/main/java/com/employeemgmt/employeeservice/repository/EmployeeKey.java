@@ -0,0 +1,12 @@
+package com.employeemgmt.employeeservice.repository;
+
+/**
+ * Projection of the keys a bulk update needs: row id, employee code and current department
+ */
+public interface EmployeeKey {
+    Long getId();
+
+    String getEmployeeId();
+
+    Long getDepartmentId();
+}
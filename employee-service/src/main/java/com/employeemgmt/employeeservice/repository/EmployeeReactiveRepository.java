@@ -0,0 +1,86 @@
+package com.employeemgmt.employeeservice.repository;
+
+import com.employeemgmt.employeeservice.dto.EmployeeResponse;
+import com.employeemgmt.employeeservice.entity.EmployeeStatus;
+import io.r2dbc.spi.Readable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Non-blocking directory reads over R2DBC, against the same tables the JPA repositories use
+ * Rows are fetched in batches of fetch-size as the subscriber requests them, so a slow client
+ * holds back the database cursor instead of rows piling up in memory. Read-only: writes stay on JPA.
+ */
+@Repository
+public class EmployeeReactiveRepository {
+
+    private static final String SELECT_EMPLOYEES =
+            "SELECT e.id, e.employee_id, e.first_name, e.last_name, e.email, e.phone, e.position, " +
+            "e.department_id, d.name AS department_name, e.salary, e.status, e.hire_date, " +
+            "e.created_by, e.created_at, e.updated_at " +
+            "FROM employees e LEFT JOIN departments d ON d.id = e.department_id ";
+
+    private final DatabaseClient databaseClient;
+
+    @Value("${employee.stream.fetch-size:500}")
+    private int fetchSize;
+
+    public EmployeeReactiveRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    public Flux<EmployeeResponse> streamByDepartmentId(Long departmentId) {
+        return query(SELECT_EMPLOYEES + "WHERE e.department_id = :departmentId ORDER BY e.id")
+                .bind("departmentId", departmentId)
+                .map(EmployeeReactiveRepository::toResponse)
+                .all();
+    }
+
+    // The driver may bind a String as a text/CLOB value; casting the parameter to VARCHAR(20), the
+    // column's type in V1, lets it compare against the column (and against H2's generated enum column)
+    public Flux<EmployeeResponse> streamByStatus(EmployeeStatus status) {
+        return query(SELECT_EMPLOYEES + "WHERE e.status = CAST(:status AS VARCHAR(20)) ORDER BY e.id")
+                .bind("status", status.name())
+                .map(EmployeeReactiveRepository::toResponse)
+                .all();
+    }
+
+    // search_name is covered by the pg_trgm GIN index from V4, as for the JPA name search
+    public Flux<EmployeeResponse> streamByName(String name) {
+        return query(SELECT_EMPLOYEES + "WHERE e.search_name LIKE '%' || LOWER(:name) || '%' ORDER BY e.id")
+                .bind("name", name)
+                .map(EmployeeReactiveRepository::toResponse)
+                .all();
+    }
+
+    private DatabaseClient.GenericExecuteSpec query(String sql) {
+        return databaseClient.sql(sql).filter(statement -> statement.fetchSize(fetchSize));
+    }
+
+    private static EmployeeResponse toResponse(Readable row) {
+        String status = row.get("status", String.class);
+        return EmployeeResponse.builder()
+                .id(row.get("id", Long.class))
+                .employeeId(row.get("employee_id", String.class))
+                .firstName(row.get("first_name", String.class))
+                .lastName(row.get("last_name", String.class))
+                .email(row.get("email", String.class))
+                .phone(row.get("phone", String.class))
+                .position(row.get("position", String.class))
+                .departmentId(row.get("department_id", Long.class))
+                .departmentName(row.get("department_name", String.class))
+                .salary(row.get("salary", BigDecimal.class))
+                .status(status != null ? EmployeeStatus.valueOf(status) : null)
+                .hireDate(row.get("hire_date", LocalDate.class))
+                .createdBy(row.get("created_by", String.class))
+                .createdAt(row.get("created_at", LocalDateTime.class))
+                .updatedAt(row.get("updated_at", LocalDateTime.class))
+                .build();
+    }
+}
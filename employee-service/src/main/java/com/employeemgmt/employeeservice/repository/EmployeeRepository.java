@@ -1,31 +1,139 @@
 package com.employeemgmt.employeeservice.repository;
 
+import com.employeemgmt.employeeservice.dto.EmployeeResponse;
+import com.employeemgmt.employeeservice.dto.TypeaheadSuggestion;
+import com.employeemgmt.employeeservice.entity.Department;
 import com.employeemgmt.employeeservice.entity.Employee;
 import com.employeemgmt.employeeservice.entity.EmployeeStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface EmployeeRepository extends JpaRepository<Employee, Long> {
 
+    /**
+     * Selects EmployeeResponse rows straight from the employee and department columns.
+     * Nothing is hydrated into the persistence context: no entities, no dirty-checking snapshots.
+     */
+    String RESPONSE_SELECT = "SELECT new com.employeemgmt.employeeservice.dto.EmployeeResponse(" +
+            "e.id, e.employeeId, e.firstName, e.lastName, e.email, e.phone, e.position, d.id, d.name, " +
+            "e.salary, e.status, e.hireDate, e.createdBy, e.createdAt, e.updatedAt) " +
+            "FROM Employee e LEFT JOIN e.department d ";
+
+    // List queries fetch the department in the same statement because every response embeds its id and name.
+    // Name searches filter on search_name, which is covered by the pg_trgm GIN index from V4.
+
+    @Override
+    @EntityGraph(attributePaths = "department")
+    List<Employee> findAll();
+
     Optional<Employee> findByEmployeeId(String employeeId);
 
     Optional<Employee> findByEmail(String email);
 
+    @EntityGraph(attributePaths = "department")
     List<Employee> findByDepartmentId(Long departmentId);
 
+    @EntityGraph(attributePaths = "department")
     List<Employee> findByStatus(EmployeeStatus status);
 
     boolean existsByEmployeeId(String employeeId);
 
     boolean existsByEmail(String email);
 
+    long countByDepartmentId(Long departmentId);
+
+    // Set-based uniqueness checks for bulk import; callers keep each collection to a bounded size
+
+    @Query("SELECT e.employeeId FROM Employee e WHERE e.employeeId IN ?1")
+    List<String> findExistingEmployeeIds(Collection<String> employeeIds);
+
+    @Query("SELECT e.email FROM Employee e WHERE e.email IN ?1")
+    List<String> findExistingEmails(Collection<String> emails);
+
+    // Set-based bulk updates; callers pass one chunk of ids at a time and set updatedAt themselves
+
+    @Query("SELECT e.id AS id, e.employeeId AS employeeId, d.id AS departmentId " +
+            "FROM Employee e LEFT JOIN e.department d WHERE e.id IN ?1 ORDER BY e.id")
+    List<EmployeeKey> findKeysByIdIn(Collection<Long> ids);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Employee e SET e.status = ?2, e.updatedAt = ?3 WHERE e.id IN ?1")
+    int updateStatus(Collection<Long> ids, EmployeeStatus status, LocalDateTime updatedAt);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Employee e SET e.department = ?2, e.updatedAt = ?3 WHERE e.id IN ?1")
+    int updateDepartment(Collection<Long> ids, Department department, LocalDateTime updatedAt);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Employee e SET e.status = ?2, e.department = ?3, e.updatedAt = ?4 WHERE e.id IN ?1")
+    int updateStatusAndDepartment(Collection<Long> ids, EmployeeStatus status, Department department,
+                                  LocalDateTime updatedAt);
+
+    boolean existsByDepartmentId(Long departmentId);
+
+    /**
+     * Employee count of every department that has employees, in one GROUP BY over the foreign key
+     */
+    @Query("SELECT e.department.id AS departmentId, COUNT(e) AS employeeCount FROM Employee e " +
+            "WHERE e.department IS NOT NULL GROUP BY e.department.id")
+    List<DepartmentEmployeeCount> countEmployeesByDepartment();
+
+    @EntityGraph(attributePaths = "department")
     @Query("SELECT e FROM Employee e WHERE e.department.id = ?1 AND e.status = ?2")
     List<Employee> findByDepartmentIdAndStatus(Long departmentId, EmployeeStatus status);
 
-    @Query("SELECT e FROM Employee e WHERE LOWER(e.firstName) LIKE LOWER(CONCAT('%', ?1, '%')) OR LOWER(e.lastName) LIKE LOWER(CONCAT('%', ?1, '%'))")
+    @EntityGraph(attributePaths = "department")
+    @Query("SELECT e FROM Employee e WHERE e.searchName LIKE CONCAT('%', LOWER(?1), '%')")
     List<Employee> searchByName(String name);
+
+    /**
+     * Top matches for a name fragment, best trigram similarity first (pg_trgm similarity())
+     */
+    @Query(RESPONSE_SELECT + "WHERE e.searchName LIKE CONCAT('%', LOWER(?1), '%') " +
+            "ORDER BY FUNCTION('similarity', e.searchName, LOWER(?1)) DESC, e.id")
+    List<EmployeeResponse> searchRankedByName(String name, Limit limit);
+
+    // Keyset pagination: callers pass the last id they saw and a limit of page size + 1.
+    // Listings are read-only, so they return response rows rather than managed entities.
+
+    @Query(RESPONSE_SELECT + "WHERE e.id > ?1 ORDER BY e.id")
+    List<EmployeeResponse> findByIdGreaterThanOrderByIdAsc(Long afterId, Limit limit);
+
+    @Query(RESPONSE_SELECT + "WHERE d.id = ?1 AND e.id > ?2 ORDER BY e.id")
+    List<EmployeeResponse> findByDepartmentIdAndIdGreaterThanOrderByIdAsc(Long departmentId, Long afterId, Limit limit);
+
+    @Query(RESPONSE_SELECT + "WHERE e.status = ?1 AND e.id > ?2 ORDER BY e.id")
+    List<EmployeeResponse> findByStatusAndIdGreaterThanOrderByIdAsc(EmployeeStatus status, Long afterId, Limit limit);
+
+    @Query(RESPONSE_SELECT + "WHERE e.searchName LIKE CONCAT('%', LOWER(?1), '%') AND e.id > ?2 ORDER BY e.id")
+    List<EmployeeResponse> searchByName(String name, Long afterId, Limit limit);
+
+    /**
+     * Forward-only cursor over every employee for the directory export.
+     * Must be consumed inside a transaction and closed by the caller.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(RESPONSE_SELECT + "ORDER BY e.id")
+    Stream<EmployeeResponse> streamAllForExport();
+
+    /**
+     * Forward-only cursor over the fields the in-memory typeahead index needs
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.employeemgmt.employeeservice.dto.TypeaheadSuggestion(" +
+            "e.id, e.employeeId, e.firstName, e.lastName, e.email) FROM Employee e")
+    Stream<TypeaheadSuggestion> streamTypeaheadSuggestions();
 }
@@ -0,0 +1,25 @@
+package com.employeemgmt.employeeservice.repository;
+
+import com.employeemgmt.employeeservice.entity.OutboxEvent;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * Takes the transaction-scoped advisory lock that elects the one relay instance allowed to
+     * publish; false if another instance holds it. Released when the transaction ends.
+     */
+    @Query(value = "SELECT pg_try_advisory_xact_lock(?1)", nativeQuery = true)
+    boolean tryRelayLock(long lockKey);
+
+    /**
+     * Oldest pending events; only the instance holding the relay lock reads them
+     */
+    @Query("SELECT o FROM OutboxEvent o ORDER BY o.id")
+    List<OutboxEvent> findPending(Limit limit);
+}
@@ -0,0 +1,114 @@
+package com.employeemgmt.employeeservice.search;
+
+import com.employeemgmt.employeeservice.dto.TypeaheadSuggestion;
+import com.employeemgmt.employeeservice.entity.Employee;
+import com.employeemgmt.employeeservice.repository.EmployeeRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Keeps the typeahead index in sync with the employees table
+ * The index is loaded at startup, updated by this instance's EmployeeService writes and rebuilt
+ * from the table every rebuild-interval-ms, so typeahead queries never touch the database.
+ * Writes made through other instances only show up after the next rebuild: results are
+ * eventually consistent per instance. Bulk status/department updates skip the write hooks but
+ * change no indexed field.
+ */
+@Service
+public class EmployeeTypeaheadService {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeTypeaheadService.class);
+
+    private final EmployeeRepository employeeRepository;
+    private volatile TypeaheadIndex index = new TypeaheadIndex();
+
+    @Value("${employee.typeahead.default-limit:10}")
+    private int defaultLimit;
+
+    @Value("${employee.typeahead.max-limit:50}")
+    private int maxLimit;
+
+    public EmployeeTypeaheadService(EmployeeRepository employeeRepository) {
+        this.employeeRepository = employeeRepository;
+    }
+
+    /**
+     * Loads a fresh index from the table and swaps it in; queries keep using the old one meanwhile
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${employee.typeahead.rebuild-interval-ms:300000}",
+            initialDelayString = "${employee.typeahead.rebuild-interval-ms:300000}")
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        long start = System.nanoTime();
+        TypeaheadIndex rebuilt = new TypeaheadIndex();
+        try (Stream<TypeaheadSuggestion> suggestions = employeeRepository.streamTypeaheadSuggestions()) {
+            suggestions.forEach(rebuilt::put);
+        }
+        index = rebuilt;
+        logger.info("Typeahead index built with {} employees in {} ms",
+                rebuilt.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    public List<TypeaheadSuggestion> suggest(String query, Integer limit) {
+        int resultLimit = limit == null ? defaultLimit : Math.max(1, Math.min(limit, maxLimit));
+        return index.search(query, resultLimit);
+    }
+
+    /**
+     * Indexes the employee once the surrounding transaction commits
+     */
+    public void onEmployeeSaved(Employee employee) {
+        TypeaheadSuggestion suggestion = toSuggestion(employee);
+        afterCommit(() -> index.put(suggestion));
+    }
+
+    /**
+     * Indexes a batch of new employees once the surrounding transaction commits
+     */
+    public void onEmployeesSaved(List<Employee> employees) {
+        List<TypeaheadSuggestion> suggestions = employees.stream().map(this::toSuggestion).toList();
+        afterCommit(() -> suggestions.forEach(index::put));
+    }
+
+    /**
+     * Drops the employee from the index once the surrounding transaction commits
+     */
+    public void onEmployeeDeleted(Long id) {
+        afterCommit(() -> index.remove(id));
+    }
+
+    private TypeaheadSuggestion toSuggestion(Employee employee) {
+        return TypeaheadSuggestion.builder()
+                .id(employee.getId())
+                .employeeId(employee.getEmployeeId())
+                .firstName(employee.getFirstName())
+                .lastName(employee.getLastName())
+                .email(employee.getEmail())
+                .build();
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
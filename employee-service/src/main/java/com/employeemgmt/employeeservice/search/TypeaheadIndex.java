@@ -0,0 +1,123 @@
+package com.employeemgmt.employeeservice.search;
+
+import com.employeemgmt.employeeservice.dto.TypeaheadSuggestion;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * In-memory prefix index over employee names, emails and employee codes
+ *
+ * Every entry is indexed under several lower-cased tokens (first name, last name,
+ * full name, email, email local part, employee code) kept in a sorted map, so a
+ * prefix lookup is a range scan that stops as soon as enough matches are found.
+ * Reads are lock-free; writes are serialized because they are rare.
+ */
+public class TypeaheadIndex {
+
+    private final NavigableMap<String, Set<Long>> tokens = new ConcurrentSkipListMap<>();
+    private final Map<Long, TypeaheadSuggestion> entries = new ConcurrentHashMap<>();
+
+    public synchronized void put(TypeaheadSuggestion suggestion) {
+        TypeaheadSuggestion previous = entries.put(suggestion.getId(), suggestion);
+        if (previous != null) {
+            tokensOf(previous).forEach(token -> unlink(token, previous.getId()));
+        }
+        tokensOf(suggestion).forEach(token ->
+                tokens.computeIfAbsent(token, t -> ConcurrentHashMap.newKeySet()).add(suggestion.getId()));
+    }
+
+    public synchronized void remove(Long id) {
+        TypeaheadSuggestion previous = entries.remove(id);
+        if (previous != null) {
+            tokensOf(previous).forEach(token -> unlink(token, id));
+        }
+    }
+
+    public synchronized void clear() {
+        tokens.clear();
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Returns up to limit entries having a token that starts with the query.
+     * Exact token matches sort first, then tokens in lexicographic order.
+     */
+    public List<TypeaheadSuggestion> search(String query, int limit) {
+        String prefix = normalize(query);
+        if (prefix.isEmpty() || limit < 1) {
+            return List.of();
+        }
+
+        Set<Long> ids = new LinkedHashSet<>();
+        for (Set<Long> matches : tokens.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values()) {
+            for (Long id : matches) {
+                ids.add(id);
+                if (ids.size() == limit) {
+                    return resolve(ids);
+                }
+            }
+        }
+        return resolve(ids);
+    }
+
+    private List<TypeaheadSuggestion> resolve(Set<Long> ids) {
+        List<TypeaheadSuggestion> results = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            TypeaheadSuggestion suggestion = entries.get(id);
+            if (suggestion != null) {
+                results.add(suggestion);
+            }
+        }
+        return results;
+    }
+
+    private void unlink(String token, Long id) {
+        Set<Long> ids = tokens.get(token);
+        if (ids != null) {
+            ids.remove(id);
+            if (ids.isEmpty()) {
+                tokens.remove(token);
+            }
+        }
+    }
+
+    private static Set<String> tokensOf(TypeaheadSuggestion suggestion) {
+        Set<String> result = new LinkedHashSet<>();
+        String firstName = normalize(suggestion.getFirstName());
+        String lastName = normalize(suggestion.getLastName());
+        String email = normalize(suggestion.getEmail());
+
+        add(result, firstName);
+        add(result, lastName);
+        add(result, (firstName + " " + lastName).trim());
+        add(result, email);
+        int at = email.indexOf('@');
+        if (at > 0) {
+            add(result, email.substring(0, at));
+        }
+        add(result, normalize(suggestion.getEmployeeId()));
+        return result;
+    }
+
+    private static void add(Set<String> result, String token) {
+        if (!token.isEmpty()) {
+            result.add(token);
+        }
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,65 @@
+package com.employeemgmt.employeeservice.service;
+
+import com.employeemgmt.employeeservice.config.CacheConfig;
+import com.employeemgmt.employeeservice.entity.Employee;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+/**
+ * Evicts cached employee and department reads affected by a write
+ * Evictions run after the surrounding transaction commits (see CacheConfig).
+ */
+@Component
+public class CacheInvalidator {
+
+    private final CacheManager cacheManager;
+
+    public CacheInvalidator(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    /**
+     * Evicts the employee under both of its keys
+     */
+    public void evictEmployee(Employee employee) {
+        evictEmployee(employee.getId(), employee.getEmployeeId());
+    }
+
+    public void evictEmployee(Long id, String employeeId) {
+        evict(CacheConfig.EMPLOYEES, id);
+        evict(CacheConfig.EMPLOYEES_BY_CODE, employeeId);
+    }
+
+    /**
+     * Evicts a department, e.g. because its employee count changed
+     */
+    public void evictDepartment(Long departmentId) {
+        if (departmentId != null) {
+            evict(CacheConfig.DEPARTMENTS, departmentId);
+        }
+    }
+
+    /**
+     * Clears every cached employee; needed when a department is renamed
+     * because employee responses embed the department name
+     */
+    public void evictAllEmployees() {
+        clear(CacheConfig.EMPLOYEES);
+        clear(CacheConfig.EMPLOYEES_BY_CODE);
+    }
+
+    private void evict(String cacheName, Object key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.evict(key);
+        }
+    }
+
+    private void clear(String cacheName) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+}
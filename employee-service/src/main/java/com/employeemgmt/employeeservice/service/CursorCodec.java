@@ -0,0 +1,41 @@
+package com.employeemgmt.employeeservice.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Encodes the keyset position of a listing into an opaque cursor token
+ * Clients must treat the token as opaque; only the service interprets it
+ */
+final class CursorCodec {
+
+    private static final String PREFIX = "v1:";
+
+    /**
+     * Position used when no cursor is supplied (ids start at 1)
+     */
+    static final long START = 0L;
+
+    private CursorCodec() {
+    }
+
+    static String encode(long lastId) {
+        byte[] raw = (PREFIX + lastId).getBytes(StandardCharsets.UTF_8);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw);
+    }
+
+    static long decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return START;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!raw.startsWith(PREFIX)) {
+                throw new IllegalArgumentException(raw);
+            }
+            return Long.parseLong(raw.substring(PREFIX.length()));
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("Invalid cursor: " + cursor);
+        }
+    }
+}
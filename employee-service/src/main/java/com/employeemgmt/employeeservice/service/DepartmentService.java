@@ -1,12 +1,17 @@
 package com.employeemgmt.employeeservice.service;
 
+import com.employeemgmt.employeeservice.config.CacheConfig;
 import com.employeemgmt.employeeservice.dto.DepartmentRequest;
 import com.employeemgmt.employeeservice.dto.DepartmentResponse;
 import com.employeemgmt.employeeservice.entity.Department;
+import com.employeemgmt.employeeservice.repository.DepartmentEmployeeCount;
 import com.employeemgmt.employeeservice.repository.DepartmentRepository;
+import com.employeemgmt.employeeservice.repository.EmployeeRepository;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -14,9 +19,15 @@ import java.util.stream.Collectors;
 public class DepartmentService {
 
     private final DepartmentRepository departmentRepository;
+    private final EmployeeRepository employeeRepository;
+    private final CacheInvalidator cacheInvalidator;
 
-    public DepartmentService(DepartmentRepository departmentRepository) {
+    public DepartmentService(DepartmentRepository departmentRepository,
+                             EmployeeRepository employeeRepository,
+                             CacheInvalidator cacheInvalidator) {
         this.departmentRepository = departmentRepository;
+        this.employeeRepository = employeeRepository;
+        this.cacheInvalidator = cacheInvalidator;
     }
 
     public DepartmentResponse createDepartment(DepartmentRequest request) {
@@ -30,7 +41,7 @@ public class DepartmentService {
         department.setManagerName(request.getManagerName());
 
         department = departmentRepository.save(department);
-        return mapToResponse(department);
+        return mapToResponse(department, 0L);
     }
 
     public DepartmentResponse updateDepartment(Long id, DepartmentRequest request) {
@@ -43,46 +54,61 @@ public class DepartmentService {
             throw new RuntimeException("Department name already exists: " + request.getName());
         }
 
+        boolean renamed = !department.getName().equals(request.getName());
+
         department.setName(request.getName());
         department.setDescription(request.getDescription());
         department.setManagerName(request.getManagerName());
 
         department = departmentRepository.save(department);
-        return mapToResponse(department);
+        cacheInvalidator.evictDepartment(id);
+        if (renamed) {
+            // Cached employee responses embed the department name
+            cacheInvalidator.evictAllEmployees();
+        }
+        return mapToResponse(department, employeeRepository.countByDepartmentId(id));
     }
 
     public void deleteDepartment(Long id) {
         Department department = departmentRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Department not found with id: " + id));
 
-        if (department.getEmployees() != null && !department.getEmployees().isEmpty()) {
+        if (employeeRepository.existsByDepartmentId(id)) {
             throw new RuntimeException("Cannot delete department with existing employees");
         }
 
         departmentRepository.delete(department);
+        cacheInvalidator.evictDepartment(id);
     }
 
-    @Transactional(readOnly = true)
+    // Read-write on purpose: cached departments must come from the primary, never a lagging replica
+    @Cacheable(cacheNames = CacheConfig.DEPARTMENTS, key = "#id")
     public DepartmentResponse getDepartmentById(Long id) {
         Department department = departmentRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Department not found with id: " + id));
-        return mapToResponse(department);
+        return mapToResponse(department, employeeRepository.countByDepartmentId(id));
     }
 
     @Transactional(readOnly = true)
     public List<DepartmentResponse> getAllDepartments() {
+        // One aggregate query for all counts instead of loading every department's employees
+        Map<Long, Long> employeeCounts = employeeRepository.countEmployeesByDepartment().stream()
+                .collect(Collectors.toMap(DepartmentEmployeeCount::getDepartmentId,
+                        DepartmentEmployeeCount::getEmployeeCount));
+
         return departmentRepository.findAll().stream()
-                .map(this::mapToResponse)
+                .map(department -> mapToResponse(department,
+                        employeeCounts.getOrDefault(department.getId(), 0L)))
                 .collect(Collectors.toList());
     }
 
-    private DepartmentResponse mapToResponse(Department department) {
+    private DepartmentResponse mapToResponse(Department department, long employeeCount) {
         return DepartmentResponse.builder()
                 .id(department.getId())
                 .name(department.getName())
                 .description(department.getDescription())
                 .managerName(department.getManagerName())
-                .employeeCount(department.getEmployees() != null ? department.getEmployees().size() : 0)
+                .employeeCount(Math.toIntExact(employeeCount))
                 .createdAt(department.getCreatedAt())
                 .updatedAt(department.getUpdatedAt())
                 .build();
@@ -0,0 +1,129 @@
+package com.employeemgmt.employeeservice.service;
+
+import com.employeemgmt.employeeservice.dto.BulkEmployeeUpdateRequest;
+import com.employeemgmt.employeeservice.dto.BulkEmployeeUpdateResult;
+import com.employeemgmt.employeeservice.entity.Department;
+import com.employeemgmt.employeeservice.entity.EmployeeStatus;
+import com.employeemgmt.employeeservice.event.EmployeeEvent;
+import com.employeemgmt.employeeservice.event.EventType;
+import com.employeemgmt.employeeservice.kafka.EmployeeEventOutbox;
+import com.employeemgmt.employeeservice.repository.DepartmentRepository;
+import com.employeemgmt.employeeservice.repository.EmployeeKey;
+import com.employeemgmt.employeeservice.repository.EmployeeRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Changes the status and/or department of many employees with set-based UPDATEs
+ * Ids are processed in chunks: per chunk one key lookup, one UPDATE and one compact
+ * EMPLOYEE_BULK_UPDATED event, so the cost grows with the number of chunks, not employees.
+ * All rows get the same updatedAt.
+ */
+@Service
+public class EmployeeBulkUpdateService {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeBulkUpdateService.class);
+
+    private final EmployeeRepository employeeRepository;
+    private final DepartmentRepository departmentRepository;
+    private final EmployeeEventOutbox employeeEventOutbox;
+    private final CacheInvalidator cacheInvalidator;
+
+    @Value("${employee.bulk-update.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${employee.bulk-update.max-employees:10000}")
+    private int maxEmployees;
+
+    public EmployeeBulkUpdateService(EmployeeRepository employeeRepository,
+                                     DepartmentRepository departmentRepository,
+                                     EmployeeEventOutbox employeeEventOutbox,
+                                     CacheInvalidator cacheInvalidator) {
+        this.employeeRepository = employeeRepository;
+        this.departmentRepository = departmentRepository;
+        this.employeeEventOutbox = employeeEventOutbox;
+        this.cacheInvalidator = cacheInvalidator;
+    }
+
+    @Transactional
+    public BulkEmployeeUpdateResult updateEmployees(BulkEmployeeUpdateRequest request, String updatedBy) {
+        EmployeeStatus status = request.getStatus();
+        if (status == null && request.getDepartmentId() == null) {
+            throw new RuntimeException("Nothing to update: set status and/or departmentId");
+        }
+        List<Long> ids = new ArrayList<>(new TreeSet<>(request.getEmployeeIds()));
+        if (ids.size() > maxEmployees) {
+            throw new RuntimeException("A bulk update may touch at most " + maxEmployees + " employees");
+        }
+        Department department = request.getDepartmentId() == null ? null
+                : departmentRepository.findById(request.getDepartmentId())
+                        .orElseThrow(() -> new RuntimeException("Department not found"));
+
+        LocalDateTime updatedAt = LocalDateTime.now();
+        List<Long> notFound = new ArrayList<>();
+        Set<Long> affectedDepartments = new HashSet<>();
+        int updated = 0;
+
+        for (int from = 0; from < ids.size(); from += chunkSize) {
+            List<Long> chunk = ids.subList(from, Math.min(from + chunkSize, ids.size()));
+            List<EmployeeKey> keys = employeeRepository.findKeysByIdIn(chunk);
+            List<Long> found = keys.stream().map(EmployeeKey::getId).toList();
+            if (found.size() < chunk.size()) {
+                Set<Long> existing = new HashSet<>(found);
+                chunk.stream().filter(id -> !existing.contains(id)).forEach(notFound::add);
+            }
+            if (found.isEmpty()) {
+                continue;
+            }
+
+            if (department == null) {
+                updated += employeeRepository.updateStatus(found, status, updatedAt);
+            } else if (status == null) {
+                updated += employeeRepository.updateDepartment(found, department, updatedAt);
+            } else {
+                updated += employeeRepository.updateStatusAndDepartment(found, status, department, updatedAt);
+            }
+
+            for (EmployeeKey key : keys) {
+                cacheInvalidator.evictEmployee(key.getId(), key.getEmployeeId());
+                if (department != null && !Objects.equals(key.getDepartmentId(), department.getId())) {
+                    affectedDepartments.add(key.getDepartmentId());
+                }
+            }
+
+            employeeEventOutbox.append(EmployeeEvent.builder()
+                    .eventType(EventType.EMPLOYEE_BULK_UPDATED)
+                    .employeeIds(found)
+                    .status(status)
+                    .departmentId(department != null ? department.getId() : null)
+                    .departmentName(department != null ? department.getName() : null)
+                    .performedBy(updatedBy)
+                    .timestamp(updatedAt)
+                    .build());
+        }
+
+        if (!affectedDepartments.isEmpty()) {
+            affectedDepartments.add(department.getId());
+            affectedDepartments.forEach(cacheInvalidator::evictDepartment);
+        }
+
+        logger.info("Bulk updated {} of {} employees (status={}, departmentId={})",
+                updated, ids.size(), status, request.getDepartmentId());
+        return BulkEmployeeUpdateResult.builder()
+                .requested(ids.size())
+                .updated(updated)
+                .notFound(notFound)
+                .build();
+    }
+}
@@ -0,0 +1,144 @@
+package com.employeemgmt.employeeservice.service;
+
+import com.employeemgmt.employeeservice.dto.EmployeeRequest;
+import com.employeemgmt.employeeservice.entity.EmployeeStatus;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Reads employees from an RFC 4180 CSV upload, one record at a time
+ * Columns are matched by header name, so a CSV directory export can be imported as-is;
+ * columns the request does not have (id, departmentName, createdAt, ...) are ignored.
+ */
+final class EmployeeCsvReader {
+
+    private static final String[] REQUIRED_COLUMNS = {"employeeId", "firstName", "lastName", "email", "status"};
+
+    private final Reader reader;
+    private final Map<String, Integer> columns = new HashMap<>();
+
+    private EmployeeCsvReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    static EmployeeCsvReader open(InputStream in) throws IOException {
+        EmployeeCsvReader csv = new EmployeeCsvReader(
+                new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)));
+        List<String> header = csv.readRecord();
+        if (header == null) {
+            throw new IOException("CSV upload is empty");
+        }
+        for (int i = 0; i < header.size(); i++) {
+            String name = header.get(i).trim();
+            csv.columns.put(i == 0 ? name.replace("\uFEFF", "") : name, i);
+        }
+        for (String column : REQUIRED_COLUMNS) {
+            if (!csv.columns.containsKey(column)) {
+                throw new IOException("CSV header is missing column: " + column);
+            }
+        }
+        return csv;
+    }
+
+    /**
+     * Parses the next data row, or returns null at the end of the upload.
+     * A malformed value raises IllegalArgumentException after the row has been consumed,
+     * so the caller can record the error and keep reading.
+     */
+    EmployeeRequest next() throws IOException {
+        List<String> fields;
+        do {
+            fields = readRecord();
+        } while (fields != null && fields.size() == 1 && fields.get(0).isBlank());
+        if (fields == null) {
+            return null;
+        }
+
+        EmployeeRequest request = new EmployeeRequest();
+        request.setEmployeeId(text(fields, "employeeId"));
+        request.setFirstName(text(fields, "firstName"));
+        request.setLastName(text(fields, "lastName"));
+        request.setEmail(text(fields, "email"));
+        request.setPhone(text(fields, "phone"));
+        request.setPosition(text(fields, "position"));
+        request.setDepartmentId(value(fields, "departmentId", Long::valueOf));
+        request.setSalary(value(fields, "salary", BigDecimal::new));
+        request.setStatus(value(fields, "status", s -> EmployeeStatus.valueOf(s.toUpperCase(Locale.ROOT))));
+        request.setHireDate(value(fields, "hireDate", LocalDate::parse));
+        return request;
+    }
+
+    private String text(List<String> fields, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private <T> T value(List<String> fields, String column, Function<String, T> parser) {
+        String text = text(fields, column);
+        if (text == null) {
+            return null;
+        }
+        try {
+            return parser.apply(text);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid " + column + ": " + text);
+        }
+    }
+
+    /**
+     * Reads one record; quoted fields may contain commas, doubled quotes and line breaks
+     */
+    private List<String> readRecord() throws IOException {
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    throw new IOException("Unterminated quoted field in CSV upload");
+                }
+                if (c == '"') {
+                    c = reader.read();
+                    if (c != '"') {
+                        quoted = false;
+                        continue;
+                    }
+                }
+                field.append((char) c);
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n' || c == -1) {
+                fields.add(field.toString());
+                return fields;
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+            c = reader.read();
+        }
+    }
+}
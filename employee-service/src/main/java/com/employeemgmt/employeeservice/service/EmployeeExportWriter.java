@@ -0,0 +1,98 @@
+package com.employeemgmt.employeeservice.service;
+
+import com.employeemgmt.employeeservice.dto.EmployeeResponse;
+import com.employeemgmt.employeeservice.dto.ExportFormat;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes exported employees one row at a time
+ * Rows are never collected, so memory use does not depend on the number of employees
+ */
+final class EmployeeExportWriter {
+
+    private static final String[] CSV_HEADER = {
+            "id", "employeeId", "firstName", "lastName", "email", "phone", "position",
+            "departmentId", "departmentName", "salary", "status", "hireDate",
+            "createdBy", "createdAt", "updatedAt"
+    };
+
+    /**
+     * Rows written between flushes; the first row is always flushed so clients
+     * receive data before the query completes
+     */
+    private static final int FLUSH_EVERY = 500;
+
+    private final ExportFormat format;
+    private final ObjectMapper objectMapper;
+    private final Writer writer;
+    private long rows;
+
+    EmployeeExportWriter(ExportFormat format, ObjectMapper objectMapper, OutputStream out) {
+        this.format = format;
+        this.objectMapper = objectMapper;
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+    }
+
+    void writeHeader() throws IOException {
+        if (format == ExportFormat.CSV) {
+            writer.write(String.join(",", CSV_HEADER));
+            writer.write('\n');
+        }
+    }
+
+    void write(EmployeeResponse employee) throws IOException {
+        if (format == ExportFormat.CSV) {
+            writeCsvRow(employee);
+        } else {
+            writer.write(objectMapper.writeValueAsString(employee));
+            writer.write('\n');
+        }
+
+        rows++;
+        if (rows == 1 || rows % FLUSH_EVERY == 0) {
+            writer.flush();
+        }
+    }
+
+    long finish() throws IOException {
+        writer.flush();
+        return rows;
+    }
+
+    private void writeCsvRow(EmployeeResponse e) throws IOException {
+        Object[] values = {
+                e.getId(), e.getEmployeeId(), e.getFirstName(), e.getLastName(), e.getEmail(),
+                e.getPhone(), e.getPosition(), e.getDepartmentId(), e.getDepartmentName(),
+                e.getSalary() != null ? e.getSalary().toPlainString() : null, e.getStatus(),
+                e.getHireDate(), e.getCreatedBy(), e.getCreatedAt(), e.getUpdatedAt()
+        };
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            if (values[i] != null) {
+                writeCsvValue(values[i].toString());
+            }
+        }
+        writer.write('\n');
+    }
+
+    private void writeCsvValue(String value) throws IOException {
+        boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
@@ -0,0 +1,271 @@
+package com.employeemgmt.employeeservice.service;
+
+import com.employeemgmt.employeeservice.dto.EmployeeImportResult;
+import com.employeemgmt.employeeservice.dto.EmployeeRequest;
+import com.employeemgmt.employeeservice.entity.Department;
+import com.employeemgmt.employeeservice.entity.Employee;
+import com.employeemgmt.employeeservice.event.EmployeeEvent;
+import com.employeemgmt.employeeservice.event.EventType;
+import com.employeemgmt.employeeservice.kafka.EmployeeEventOutbox;
+import com.employeemgmt.employeeservice.repository.DepartmentRepository;
+import com.employeemgmt.employeeservice.repository.EmployeeRepository;
+import com.employeemgmt.employeeservice.search.EmployeeTypeaheadService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Imports many employees in one transaction
+ * Uniqueness is checked with a few set-based queries, departments are loaded once,
+ * and the inserts (employees and their outbox events) go out in JDBC batches.
+ * Rows that fail validation are skipped and reported; the rest are imported.
+ */
+@Service
+public class EmployeeImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeImportService.class);
+
+    /**
+     * Values per IN list in the uniqueness queries, well below the bind parameter limits of the drivers
+     */
+    private static final int LOOKUP_CHUNK_SIZE = 1000;
+
+    private final EmployeeRepository employeeRepository;
+    private final DepartmentRepository departmentRepository;
+    private final EmployeeEventOutbox employeeEventOutbox;
+    private final EmployeeTypeaheadService typeaheadService;
+    private final CacheInvalidator cacheInvalidator;
+    private final Validator validator;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${employee.import.max-rows:10000}")
+    private int maxRows;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int batchSize;
+
+    public EmployeeImportService(EmployeeRepository employeeRepository,
+                                 DepartmentRepository departmentRepository,
+                                 EmployeeEventOutbox employeeEventOutbox,
+                                 EmployeeTypeaheadService typeaheadService,
+                                 CacheInvalidator cacheInvalidator,
+                                 Validator validator) {
+        this.employeeRepository = employeeRepository;
+        this.departmentRepository = departmentRepository;
+        this.employeeEventOutbox = employeeEventOutbox;
+        this.typeaheadService = typeaheadService;
+        this.cacheInvalidator = cacheInvalidator;
+        this.validator = validator;
+    }
+
+    @Transactional
+    public EmployeeImportResult importEmployees(List<EmployeeRequest> requests, String createdBy) {
+        checkRowLimit(requests.size());
+        List<ImportRow> rows = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            rows.add(new ImportRow(i + 1, requests.get(i)));
+        }
+        return importRows(rows, createdBy);
+    }
+
+    @Transactional
+    public EmployeeImportResult importCsv(InputStream csv, String createdBy) {
+        List<ImportRow> rows = new ArrayList<>();
+        try {
+            EmployeeCsvReader reader = EmployeeCsvReader.open(csv);
+            while (true) {
+                ImportRow row;
+                try {
+                    EmployeeRequest request = reader.next();
+                    if (request == null) {
+                        break;
+                    }
+                    row = new ImportRow(rows.size() + 1, request);
+                } catch (IllegalArgumentException e) {
+                    row = new ImportRow(rows.size() + 1, null);
+                    row.error = e.getMessage();
+                }
+                rows.add(row);
+                checkRowLimit(rows.size());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read CSV upload: " + e.getMessage(), e);
+        }
+        return importRows(rows, createdBy);
+    }
+
+    private EmployeeImportResult importRows(List<ImportRow> rows, String createdBy) {
+        List<ImportRow> candidates = validate(rows);
+        rejectExisting(candidates, EmployeeRequest::getEmployeeId,
+                employeeRepository::findExistingEmployeeIds, "Employee ID already exists: ");
+        rejectExisting(candidates, EmployeeRequest::getEmail,
+                employeeRepository::findExistingEmails, "Email already exists: ");
+        Map<Long, Department> departments = resolveDepartments(candidates);
+
+        List<Employee> employees = new ArrayList<>();
+        List<EmployeeEvent> events = new ArrayList<>();
+        for (ImportRow row : candidates) {
+            if (row.error != null) {
+                continue;
+            }
+            Employee employee = toEmployee(row.request, departments, createdBy);
+            entityManager.persist(employee);
+            employees.add(employee);
+            events.add(EmployeeService.toEvent(employee, EventType.EMPLOYEE_CREATED, createdBy));
+
+            // Keep the persistence context small; the flush sends one batch of inserts
+            if (employees.size() % batchSize == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+
+        employeeEventOutbox.appendAll(events);
+        typeaheadService.onEmployeesSaved(employees);
+        employees.stream()
+                .map(employee -> employee.getDepartment() != null ? employee.getDepartment().getId() : null)
+                .filter(Objects::nonNull)
+                .distinct()
+                .forEach(cacheInvalidator::evictDepartment);
+
+        List<EmployeeImportResult.RowError> errors = rows.stream()
+                .filter(row -> row.error != null)
+                .sorted(Comparator.comparingInt(row -> row.number))
+                .map(row -> new EmployeeImportResult.RowError(row.number,
+                        row.request != null ? row.request.getEmployeeId() : null, row.error))
+                .collect(Collectors.toList());
+
+        logger.info("Imported {} of {} employees ({} rejected)", employees.size(), rows.size(), errors.size());
+        return EmployeeImportResult.builder()
+                .received(rows.size())
+                .imported(employees.size())
+                .errors(errors)
+                .build();
+    }
+
+    /**
+     * Applies the bean validation constraints and rejects codes or emails repeated within the upload
+     */
+    private List<ImportRow> validate(List<ImportRow> rows) {
+        Set<String> employeeIds = new HashSet<>();
+        Set<String> emails = new HashSet<>();
+        List<ImportRow> candidates = new ArrayList<>(rows.size());
+        for (ImportRow row : rows) {
+            if (row.error != null) {
+                continue;
+            }
+            if (row.request == null) {
+                row.error = "Row is empty";
+                continue;
+            }
+            Set<ConstraintViolation<EmployeeRequest>> violations = validator.validate(row.request);
+            if (!violations.isEmpty()) {
+                row.error = violations.stream()
+                        .map(ConstraintViolation::getMessage)
+                        .sorted()
+                        .collect(Collectors.joining("; "));
+            } else if (!employeeIds.add(row.request.getEmployeeId())) {
+                row.error = "Duplicate employee ID in import: " + row.request.getEmployeeId();
+            } else if (!emails.add(row.request.getEmail())) {
+                row.error = "Duplicate email in import: " + row.request.getEmail();
+            } else {
+                candidates.add(row);
+            }
+        }
+        return candidates;
+    }
+
+    private void rejectExisting(List<ImportRow> candidates,
+                                Function<EmployeeRequest, String> key,
+                                Function<Collection<String>, List<String>> findExisting,
+                                String message) {
+        List<String> keys = candidates.stream()
+                .filter(row -> row.error == null)
+                .map(row -> key.apply(row.request))
+                .toList();
+        Set<String> existing = new HashSet<>();
+        for (int from = 0; from < keys.size(); from += LOOKUP_CHUNK_SIZE) {
+            existing.addAll(findExisting.apply(keys.subList(from, Math.min(from + LOOKUP_CHUNK_SIZE, keys.size()))));
+        }
+        for (ImportRow row : candidates) {
+            if (row.error == null && existing.contains(key.apply(row.request))) {
+                row.error = message + key.apply(row.request);
+            }
+        }
+    }
+
+    private Map<Long, Department> resolveDepartments(List<ImportRow> candidates) {
+        Set<Long> departmentIds = candidates.stream()
+                .filter(row -> row.error == null && row.request.getDepartmentId() != null)
+                .map(row -> row.request.getDepartmentId())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        Map<Long, Department> departments = departmentIds.isEmpty() ? Map.of()
+                : departmentRepository.findAllById(departmentIds).stream()
+                        .collect(Collectors.toMap(Department::getId, Function.identity()));
+        for (ImportRow row : candidates) {
+            Long departmentId = row.request.getDepartmentId();
+            if (row.error == null && departmentId != null && !departments.containsKey(departmentId)) {
+                row.error = "Department not found: " + departmentId;
+            }
+        }
+        return departments;
+    }
+
+    private Employee toEmployee(EmployeeRequest request, Map<Long, Department> departments, String createdBy) {
+        Employee employee = new Employee();
+        employee.setEmployeeId(request.getEmployeeId());
+        employee.setFirstName(request.getFirstName());
+        employee.setLastName(request.getLastName());
+        employee.setEmail(request.getEmail());
+        employee.setPhone(request.getPhone());
+        employee.setPosition(request.getPosition());
+        employee.setSalary(request.getSalary());
+        employee.setStatus(request.getStatus());
+        employee.setHireDate(request.getHireDate());
+        employee.setCreatedBy(createdBy);
+        if (request.getDepartmentId() != null) {
+            employee.setDepartment(departments.get(request.getDepartmentId()));
+        }
+        return employee;
+    }
+
+    private void checkRowLimit(int rows) {
+        if (rows > maxRows) {
+            throw new RuntimeException("An import may contain at most " + maxRows + " rows");
+        }
+    }
+
+    private static final class ImportRow {
+        private final int number;
+        private final EmployeeRequest request;
+        private String error;
+
+        private ImportRow(int number, EmployeeRequest request) {
+            this.number = number;
+            this.request = request;
+        }
+    }
+}
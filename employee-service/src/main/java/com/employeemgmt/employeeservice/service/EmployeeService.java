@@ -1,34 +1,67 @@
 package com.employeemgmt.employeeservice.service;
 
+import com.employeemgmt.employeeservice.config.CacheConfig;
+import com.employeemgmt.employeeservice.dto.CursorPage;
 import com.employeemgmt.employeeservice.dto.EmployeeRequest;
 import com.employeemgmt.employeeservice.dto.EmployeeResponse;
+import com.employeemgmt.employeeservice.dto.ExportFormat;
 import com.employeemgmt.employeeservice.entity.Department;
 import com.employeemgmt.employeeservice.entity.Employee;
 import com.employeemgmt.employeeservice.entity.EmployeeStatus;
 import com.employeemgmt.employeeservice.event.EmployeeEvent;
-import com.employeemgmt.employeeservice.kafka.KafkaProducerService;
+import com.employeemgmt.employeeservice.kafka.EmployeeEventOutbox;
 import com.employeemgmt.employeeservice.repository.DepartmentRepository;
 import com.employeemgmt.employeeservice.repository.EmployeeRepository;
+import com.employeemgmt.employeeservice.search.EmployeeTypeaheadService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Objects;
+import java.util.stream.Stream;
 
 @Service
 @Transactional
 public class EmployeeService {
 
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeService.class);
+
     private final EmployeeRepository employeeRepository;
     private final DepartmentRepository departmentRepository;
-    private final KafkaProducerService kafkaProducerService;
+    private final EmployeeEventOutbox employeeEventOutbox;
+    private final ObjectMapper objectMapper;
+    private final EmployeeTypeaheadService typeaheadService;
+    private final CacheInvalidator cacheInvalidator;
+
+    @Value("${employee.pagination.default-size:20}")
+    private int defaultPageSize;
+
+    @Value("${employee.pagination.max-size:100}")
+    private int maxPageSize;
+
+    @Value("${employee.search.default-limit:10}")
+    private int defaultSearchLimit;
 
     public EmployeeService(EmployeeRepository employeeRepository,
                            DepartmentRepository departmentRepository,
-                           KafkaProducerService kafkaProducerService) {
+                           EmployeeEventOutbox employeeEventOutbox,
+                           ObjectMapper objectMapper,
+                           EmployeeTypeaheadService typeaheadService,
+                           CacheInvalidator cacheInvalidator) {
         this.employeeRepository = employeeRepository;
         this.departmentRepository = departmentRepository;
-        this.kafkaProducerService = kafkaProducerService;
+        this.employeeEventOutbox = employeeEventOutbox;
+        this.objectMapper = objectMapper;
+        this.typeaheadService = typeaheadService;
+        this.cacheInvalidator = cacheInvalidator;
     }
 
     public EmployeeResponse createEmployee(EmployeeRequest request, String createdBy) {
@@ -62,8 +95,10 @@ public class EmployeeService {
         }
 
         employee = employeeRepository.save(employee);
+        typeaheadService.onEmployeeSaved(employee);
+        cacheInvalidator.evictDepartment(request.getDepartmentId());
 
-        // Publish Kafka event
+        // Record the event in the outbox; it is published after commit
         publishEmployeeEvent(employee, com.employeemgmt.employeeservice.event.EventType.EMPLOYEE_CREATED, createdBy);
 
         return mapToResponse(employee);
@@ -79,6 +114,8 @@ public class EmployeeService {
             throw new RuntimeException("Email already exists: " + request.getEmail());
         }
 
+        Long previousDepartmentId = employee.getDepartment() != null ? employee.getDepartment().getId() : null;
+
         // Update fields
         employee.setFirstName(request.getFirstName());
         employee.setLastName(request.getLastName());
@@ -99,8 +136,14 @@ public class EmployeeService {
         }
 
         employee = employeeRepository.save(employee);
+        typeaheadService.onEmployeeSaved(employee);
+        cacheInvalidator.evictEmployee(employee);
+        if (!Objects.equals(previousDepartmentId, request.getDepartmentId())) {
+            cacheInvalidator.evictDepartment(previousDepartmentId);
+            cacheInvalidator.evictDepartment(request.getDepartmentId());
+        }
 
-        // Publish Kafka event
+        // Record the event in the outbox; it is published after commit
         publishEmployeeEvent(employee, com.employeemgmt.employeeservice.event.EventType.EMPLOYEE_UPDATED, updatedBy);
 
         return mapToResponse(employee);
@@ -110,20 +153,25 @@ public class EmployeeService {
         Employee employee = employeeRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Employee not found with id: " + id));
 
-        // Publish Kafka event before deletion
+        // Capture the event before deletion; it is published only if the delete commits
         publishEmployeeEvent(employee, com.employeemgmt.employeeservice.event.EventType.EMPLOYEE_DELETED, deletedBy);
 
         employeeRepository.delete(employee);
+        typeaheadService.onEmployeeDeleted(id);
+        cacheInvalidator.evictEmployee(employee);
+        cacheInvalidator.evictDepartment(employee.getDepartment() != null ? employee.getDepartment().getId() : null);
     }
 
-    @Transactional(readOnly = true)
+    // Not read-only, so it never goes to a replica: a stale row read there would stay cached until the TTL
+    @Cacheable(cacheNames = CacheConfig.EMPLOYEES, key = "#id")
     public EmployeeResponse getEmployeeById(Long id) {
         Employee employee = employeeRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Employee not found with id: " + id));
         return mapToResponse(employee);
     }
 
-    @Transactional(readOnly = true)
+    // Read-write for the same reason as getEmployeeById
+    @Cacheable(cacheNames = CacheConfig.EMPLOYEES_BY_CODE, key = "#employeeId")
     public EmployeeResponse getEmployeeByEmployeeId(String employeeId) {
         Employee employee = employeeRepository.findByEmployeeId(employeeId)
                 .orElseThrow(() -> new RuntimeException("Employee not found with ID: " + employeeId));
@@ -131,35 +179,95 @@ public class EmployeeService {
     }
 
     @Transactional(readOnly = true)
-    public List<EmployeeResponse> getAllEmployees() {
-        return employeeRepository.findAll().stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+    public CursorPage<EmployeeResponse> getAllEmployees(String cursor, Integer size) {
+        int pageSize = resolvePageSize(size);
+        return toPage(employeeRepository.findByIdGreaterThanOrderByIdAsc(
+                CursorCodec.decode(cursor), Limit.of(pageSize + 1)), pageSize);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<EmployeeResponse> getEmployeesByDepartment(Long departmentId, String cursor, Integer size) {
+        int pageSize = resolvePageSize(size);
+        return toPage(employeeRepository.findByDepartmentIdAndIdGreaterThanOrderByIdAsc(
+                departmentId, CursorCodec.decode(cursor), Limit.of(pageSize + 1)), pageSize);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<EmployeeResponse> getEmployeesByStatus(EmployeeStatus status, String cursor, Integer size) {
+        int pageSize = resolvePageSize(size);
+        return toPage(employeeRepository.findByStatusAndIdGreaterThanOrderByIdAsc(
+                status, CursorCodec.decode(cursor), Limit.of(pageSize + 1)), pageSize);
     }
 
     @Transactional(readOnly = true)
-    public List<EmployeeResponse> getEmployeesByDepartment(Long departmentId) {
-        return employeeRepository.findByDepartmentId(departmentId).stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+    public CursorPage<EmployeeResponse> searchEmployeesByName(String name, String cursor, Integer size) {
+        int pageSize = resolvePageSize(size);
+        return toPage(employeeRepository.searchByName(
+                name, CursorCodec.decode(cursor), Limit.of(pageSize + 1)), pageSize);
     }
 
+    /**
+     * Best matches for a name fragment, ranked by trigram similarity and capped at the page size limit
+     */
     @Transactional(readOnly = true)
-    public List<EmployeeResponse> getEmployeesByStatus(EmployeeStatus status) {
-        return employeeRepository.findByStatus(status).stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+    public List<EmployeeResponse> searchEmployeesRanked(String name, Integer limit) {
+        int resultLimit = limit != null ? resolvePageSize(limit) : defaultSearchLimit;
+        return employeeRepository.searchRankedByName(name, Limit.of(resultLimit));
     }
 
+    /**
+     * Streams the whole directory to the given output in the requested format.
+     * Rows come from a forward-only database cursor as response projections that are
+     * never managed, so heap use stays flat regardless of the number of employees.
+     */
     @Transactional(readOnly = true)
-    public List<EmployeeResponse> searchEmployeesByName(String name) {
-        return employeeRepository.searchByName(name).stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+    public long exportEmployees(ExportFormat format, OutputStream out) throws IOException {
+        EmployeeExportWriter writer = new EmployeeExportWriter(format, objectMapper, out);
+        writer.writeHeader();
+
+        try (Stream<EmployeeResponse> employees = employeeRepository.streamAllForExport()) {
+            for (EmployeeResponse employee : (Iterable<EmployeeResponse>) employees::iterator) {
+                writer.write(employee);
+            }
+        }
+
+        long rows = writer.finish();
+        logger.info("Exported {} employees as {}", rows, format);
+        return rows;
+    }
+
+    private int resolvePageSize(Integer size) {
+        if (size == null) {
+            return defaultPageSize;
+        }
+        if (size < 1) {
+            throw new RuntimeException("Page size must be at least 1");
+        }
+        return Math.min(size, maxPageSize);
+    }
+
+    /**
+     * Builds a page from rows fetched with a limit of pageSize + 1;
+     * the extra row only signals that another page exists
+     */
+    private CursorPage<EmployeeResponse> toPage(List<EmployeeResponse> rows, int pageSize) {
+        boolean hasNext = rows.size() > pageSize;
+        List<EmployeeResponse> items = hasNext ? rows.subList(0, pageSize) : rows;
+
+        return CursorPage.<EmployeeResponse>builder()
+                .items(items)
+                .size(items.size())
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? CursorCodec.encode(items.get(items.size() - 1).getId()) : null)
+                .build();
     }
 
     private void publishEmployeeEvent(Employee employee, com.employeemgmt.employeeservice.event.EventType eventType, String performedBy) {
-        EmployeeEvent event = EmployeeEvent.builder()
+        employeeEventOutbox.append(toEvent(employee, eventType, performedBy));
+    }
+
+    static EmployeeEvent toEvent(Employee employee, com.employeemgmt.employeeservice.event.EventType eventType, String performedBy) {
+        return EmployeeEvent.builder()
                 .eventType(eventType)
                 .employeeId(employee.getId())
                 .employeeIdCode(employee.getEmployeeId())
@@ -174,8 +282,6 @@ public class EmployeeService {
                 .performedBy(performedBy)
                 .timestamp(LocalDateTime.now())
                 .build();
-
-        kafkaProducerService.sendEmployeeEvent(event);
     }
 
     private EmployeeResponse mapToResponse(Employee employee) {
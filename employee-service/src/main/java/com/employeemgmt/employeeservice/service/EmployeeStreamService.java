@@ -0,0 +1,36 @@
+package com.employeemgmt.employeeservice.service;
+
+import com.employeemgmt.employeeservice.dto.EmployeeResponse;
+import com.employeemgmt.employeeservice.entity.EmployeeStatus;
+import com.employeemgmt.employeeservice.repository.EmployeeReactiveRepository;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+
+/**
+ * Reactive counterparts of the paginated directory reads in EmployeeService
+ * Results are streamed in id order with no page size; the client's read rate paces the query.
+ */
+@Service
+public class EmployeeStreamService {
+
+    private final EmployeeReactiveRepository employeeReactiveRepository;
+
+    public EmployeeStreamService(EmployeeReactiveRepository employeeReactiveRepository) {
+        this.employeeReactiveRepository = employeeReactiveRepository;
+    }
+
+    public Flux<EmployeeResponse> streamEmployeesByDepartment(Long departmentId) {
+        return employeeReactiveRepository.streamByDepartmentId(departmentId);
+    }
+
+    public Flux<EmployeeResponse> streamEmployeesByStatus(EmployeeStatus status) {
+        return employeeReactiveRepository.streamByStatus(status);
+    }
+
+    public Flux<EmployeeResponse> searchEmployeesByName(String name) {
+        if (name == null || name.isBlank()) {
+            throw new RuntimeException("Search name must not be blank");
+        }
+        return employeeReactiveRepository.streamByName(name.trim());
+    }
+}
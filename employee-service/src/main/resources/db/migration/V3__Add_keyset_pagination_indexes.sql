@@ -0,0 +1,7 @@
+-- Composite indexes for keyset pagination: filter column first, then id for the ORDER BY / id > cursor range
+CREATE INDEX idx_employee_department_id ON employees(department_id, id);
+CREATE INDEX idx_employee_status_id ON employees(status, id);
+
+-- Superseded by the composite indexes above (same leading column)
+DROP INDEX idx_employee_department;
+DROP INDEX idx_employee_status;
@@ -0,0 +1,9 @@
+-- Trigram index for substring name search (LIKE '%x%' cannot use a b-tree index)
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- Lower-cased "first last" name kept up to date by the database
+ALTER TABLE employees
+    ADD COLUMN search_name VARCHAR(101)
+        GENERATED ALWAYS AS (lower(first_name || ' ' || last_name)) STORED;
+
+CREATE INDEX idx_employee_search_name_trgm ON employees USING gin (search_name gin_trgm_ops);
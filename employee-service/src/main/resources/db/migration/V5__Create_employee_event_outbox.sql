@@ -0,0 +1,9 @@
+-- Employee events are written here in the same transaction as the change they describe
+-- and relayed to Kafka by the outbox relay; rows are deleted once the broker acknowledges them
+CREATE TABLE employee_event_outbox (
+                                      id BIGSERIAL PRIMARY KEY,
+                                      message_key VARCHAR(20) NOT NULL,
+                                      event_type VARCHAR(40) NOT NULL,
+                                      payload TEXT NOT NULL,
+                                      created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
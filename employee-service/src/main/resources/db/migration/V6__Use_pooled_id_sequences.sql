@@ -0,0 +1,6 @@
+-- Hibernate reserves a block of ids per nextval() (pooled optimizer) instead of one round trip per insert.
+-- The BIGSERIAL defaults keep working for plain SQL inserts; they just skip ahead by the increment.
+-- Changing the increment later needs a new migration; the application follows the database at startup.
+ALTER SEQUENCE employees_id_seq INCREMENT BY ${id_allocation_size};
+ALTER SEQUENCE departments_id_seq INCREMENT BY ${id_allocation_size};
+-- employee_event_outbox_id_seq stays at 1: the outbox relays in id order, which pooled blocks would break.
@@ -0,0 +1,168 @@
+package com.employeemgmt.employeeservice.benchmark;
+
+import com.employeemgmt.employeeservice.EmployeeServiceApplication;
+import com.employeemgmt.employeeservice.entity.Department;
+import com.employeemgmt.employeeservice.entity.Employee;
+import com.employeemgmt.employeeservice.entity.EmployeeStatus;
+import com.employeemgmt.employeeservice.repository.DepartmentRepository;
+import com.employeemgmt.employeeservice.repository.EmployeeRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time for N concurrent clients to each read a 500-employee department
+ * blocking: GET /employees/department/{id}, following cursors through five pages of 100 (JPA).
+ * stream: one GET /employees/stream/department/{id} NDJSON response (R2DBC).
+ * Both read the same in-memory H2 database (r2dbc-h2 has no TCP mode) through 20 JDBC and 20 R2DBC
+ * connections, so this measures request handling rather than database round trips. A blocking page
+ * holds a Tomcat thread for its whole database call; a stream holds an R2DBC connection until the
+ * client has read its last row, so the R2DBC pool bounds concurrent streams.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class DirectoryStreamingBenchmark {
+
+    private static final int EMPLOYEES = 500;
+    private static final int PAGE_SIZE = 100;
+
+    @Param({"50", "500", "2000"})
+    private int clients;
+
+    @Param({"blocking", "stream"})
+    private String api;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient httpClient;
+    private ObjectMapper objectMapper;
+    private String baseUrl;
+    private Long departmentId;
+
+    @Setup(Level.Trial)
+    public void start() {
+        // Command-line arguments, so they win over application-test.yml
+        context = new SpringApplicationBuilder(EmployeeServiceApplication.class)
+                .profiles("test")
+                .run("--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:directory;DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.hikari.maximum-pool-size=20",
+                        "--spring.r2dbc.url=r2dbc:h2:mem:///directory?options=DB_CLOSE_DELAY=-1",
+                        "--spring.r2dbc.pool.max-size=20",
+                        "--spring.r2dbc.pool.max-acquire-time=10m",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN");
+        baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+        objectMapper = context.getBean(ObjectMapper.class);
+        httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(30)).build();
+
+        Department department = new Department();
+        department.setName("Engineering");
+        departmentId = context.getBean(DepartmentRepository.class).save(department).getId();
+        List<Employee> employees = new ArrayList<>();
+        for (int i = 0; i < EMPLOYEES; i++) {
+            Employee employee = new Employee();
+            employee.setEmployeeId("EMP" + i);
+            employee.setFirstName("John");
+            employee.setLastName("Doe" + i);
+            employee.setEmail("john.doe" + i + "@company.com");
+            employee.setPosition("Engineer");
+            employee.setDepartment(department);
+            employee.setSalary(new BigDecimal("50000"));
+            employee.setStatus(EmployeeStatus.ACTIVE);
+            employees.add(employee);
+        }
+        context.getBean(EmployeeRepository.class).saveAll(employees);
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    @Benchmark
+    public int readDepartment() {
+        List<CompletableFuture<Integer>> reads = new ArrayList<>(clients);
+        for (int i = 0; i < clients; i++) {
+            reads.add("stream".equals(api) ? stream() : page(null, 0));
+        }
+        int rows = 0;
+        for (CompletableFuture<Integer> read : reads) {
+            rows += read.join();
+        }
+        if (rows != clients * EMPLOYEES) {
+            throw new IllegalStateException("Read " + rows + " rows, expected " + clients * EMPLOYEES);
+        }
+        return rows;
+    }
+
+    private CompletableFuture<Integer> stream() {
+        return send("/employees/stream/department/" + departmentId)
+                .thenApply(body -> (int) body.lines().count());
+    }
+
+    private CompletableFuture<Integer> page(String cursor, int rowsSoFar) {
+        String path = "/employees/department/" + departmentId + "?size=" + PAGE_SIZE
+                + (cursor != null ? "&cursor=" + URLEncoder.encode(cursor, StandardCharsets.UTF_8) : "");
+        return send(path).thenCompose(body -> {
+            JsonNode page = readTree(body);
+            int rows = rowsSoFar + page.get("items").size();
+            return page.get("hasNext").asBoolean()
+                    ? page(page.get("nextCursor").asText(), rows)
+                    : CompletableFuture.completedFuture(rows);
+        });
+    }
+
+    private CompletableFuture<String> send(String path) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("X-User-Role", "ADMIN")
+                .timeout(Duration.ofMinutes(5))
+                .build();
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString()).thenApply(response -> {
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException(path + " returned " + response.statusCode() + ": " + response.body());
+            }
+            return response.body();
+        });
+    }
+
+    private JsonNode readTree(String body) {
+        try {
+            return objectMapper.readTree(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.employeemgmt.employeeservice.benchmark;
+
+import com.employeemgmt.employeeservice.config.KafkaConfig;
+import com.employeemgmt.employeeservice.entity.EmployeeStatus;
+import com.employeemgmt.employeeservice.event.EmployeeEvent;
+import com.employeemgmt.employeeservice.event.EventType;
+import com.employeemgmt.employeeservice.kafka.KafkaProducerService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Employee event throughput against an embedded single-node broker
+ * "default" uses the client defaults; "high-throughput" binds application-high-throughput.yml,
+ * so the numbers track whatever that profile currently configures. Scores are events/sec.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class EmployeeEventProducerBenchmark {
+
+    private static final int EVENTS_PER_INVOCATION = 10_000;
+
+    @Param({"default", "high-throughput"})
+    private String profile;
+
+    private EmbeddedKafkaBroker broker;
+    private DefaultKafkaProducerFactory<String, EmployeeEvent> producerFactory;
+    private KafkaProducerService producer;
+    private EmployeeEvent[] events;
+
+    @Setup(Level.Trial)
+    public void startBroker() throws IOException {
+        broker = new EmbeddedKafkaKraftBroker(1, 3, KafkaConfig.EMPLOYEE_EVENTS_TOPIC);
+        broker.afterPropertiesSet();
+
+        Map<String, Object> config = new HashMap<>(producerProperties(profile));
+        config.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, broker.getBrokersAsString());
+        config.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        config.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
+        producerFactory = new DefaultKafkaProducerFactory<>(config);
+        producer = new KafkaProducerService(new KafkaTemplate<>(producerFactory), new SimpleMeterRegistry(),
+                EVENTS_PER_INVOCATION, 60_000);
+
+        events = new EmployeeEvent[EVENTS_PER_INVOCATION];
+        for (int i = 0; i < EVENTS_PER_INVOCATION; i++) {
+            events[i] = EmployeeEvent.builder()
+                    .eventType(EventType.EMPLOYEE_CREATED)
+                    .employeeId((long) i)
+                    .employeeIdCode("EMP" + i)
+                    .firstName("First" + i)
+                    .lastName("Last" + i)
+                    .email("employee" + i + "@company.com")
+                    .position("Developer")
+                    .departmentId(1L + i % 5)
+                    .departmentName("Engineering")
+                    .salary(new BigDecimal("75000.00"))
+                    .status(EmployeeStatus.ACTIVE)
+                    .performedBy("import")
+                    .timestamp(LocalDateTime.now())
+                    .build();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void stopBroker() {
+        producerFactory.destroy();
+        broker.destroy();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EVENTS_PER_INVOCATION)
+    public void sendBatch() {
+        CompletableFuture<?>[] acks = new CompletableFuture[EVENTS_PER_INVOCATION];
+        for (int i = 0; i < EVENTS_PER_INVOCATION; i++) {
+            acks[i] = producer.sendEmployeeEvent(events[i]);
+        }
+        CompletableFuture.allOf(acks).join();
+    }
+
+    private static Map<String, Object> producerProperties(String profile) throws IOException {
+        if ("default".equals(profile)) {
+            return Map.of();
+        }
+        Binder binder = new Binder(ConfigurationPropertySources.from(new YamlPropertySourceLoader()
+                .load(profile, new ClassPathResource("application-" + profile + ".yml"))));
+        return binder.bind("spring.kafka", KafkaProperties.class)
+                .orElseGet(KafkaProperties::new)
+                .buildProducerProperties(null);
+    }
+}
@@ -0,0 +1,107 @@
+package com.employeemgmt.employeeservice.benchmark;
+
+import com.employeemgmt.employeeservice.entity.EmployeeStatus;
+import com.employeemgmt.employeeservice.event.EmployeeEvent;
+import com.employeemgmt.employeeservice.event.EventType;
+import com.employeemgmt.employeeservice.kafka.EmployeeEventBinaryDeserializer;
+import com.employeemgmt.employeeservice.kafka.EmployeeEventBinarySerializer;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.serialization.Serializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON (Spring's JsonSerializer, the current default) versus the binary EmployeeEvent format
+ * Average encoded size per format is printed once per fork before measurement.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmployeeEventSerializationBenchmark {
+
+    private static final String TOPIC = "employee-events";
+    private static final int EVENTS = 1024;
+
+    @Param({"json", "binary"})
+    private String format;
+
+    private Serializer<EmployeeEvent> serializer;
+    private Deserializer<EmployeeEvent> deserializer;
+    private EmployeeEvent[] events;
+    private byte[][] encoded;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        if ("json".equals(format)) {
+            serializer = new JsonSerializer<>();
+            JsonDeserializer<EmployeeEvent> json = new JsonDeserializer<>(EmployeeEvent.class);
+            json.configure(Map.of(JsonDeserializer.USE_TYPE_INFO_HEADERS, false), false);
+            deserializer = json;
+        } else {
+            serializer = new EmployeeEventBinarySerializer();
+            deserializer = new EmployeeEventBinaryDeserializer();
+        }
+
+        events = new EmployeeEvent[EVENTS];
+        encoded = new byte[EVENTS][];
+        long totalBytes = 0;
+        for (int i = 0; i < EVENTS; i++) {
+            events[i] = EmployeeEvent.builder()
+                    .eventType(EventType.values()[i % 3])
+                    .employeeId(100_000L + i)
+                    .employeeIdCode("EMP" + (100_000 + i))
+                    .firstName("First" + i)
+                    .lastName("Last" + i)
+                    .email("employee" + i + "@company.com")
+                    .position("Developer")
+                    .departmentId(1L + i % 5)
+                    .departmentName("Engineering")
+                    .salary(new BigDecimal("75000.00").add(BigDecimal.valueOf(i)))
+                    .status(EmployeeStatus.values()[i % 4])
+                    .performedBy("admin")
+                    .timestamp(LocalDateTime.of(2026, 1, 1, 0, 0).plusSeconds(i * 37L))
+                    .build();
+            encoded[i] = serializer.serialize(TOPIC, events[i]);
+            totalBytes += encoded[i].length;
+        }
+        System.out.printf("%n%s: %.1f bytes per event%n", format, (double) totalBytes / EVENTS);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        serializer.close();
+        deserializer.close();
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return serializer.serialize(TOPIC, events[next++ & (EVENTS - 1)]);
+    }
+
+    @Benchmark
+    public EmployeeEvent deserialize() {
+        return deserializer.deserialize(TOPIC, encoded[next++ & (EVENTS - 1)]);
+    }
+}
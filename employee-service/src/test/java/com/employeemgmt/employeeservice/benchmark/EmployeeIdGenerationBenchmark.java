@@ -0,0 +1,207 @@
+package com.employeemgmt.employeeservice.benchmark;
+
+import com.employeemgmt.employeeservice.entity.Department;
+import com.employeemgmt.employeeservice.entity.Employee;
+import com.employeemgmt.employeeservice.entity.EmployeeStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.Transaction;
+import org.h2.tools.Server;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.ServerSocket;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time to persist 100k employees in one transaction (flush and clear every JDBC batch)
+ * IDENTITY: the pre-V6 mapping, one insert round trip per row and no batching.
+ * SEQUENCE: sequence increment 1, inserts batched but one nextval() per row.
+ * POOLED: increment 50 (V6), one nextval() per 50 rows and batched inserts.
+ * Runs against an H2 TCP server on loopback so every statement is a real round trip. H2's client
+ * sends a JDBC batch one statement at a time, so only the saved nextval() calls show up here;
+ * on PostgreSQL (with reWriteBatchedInserts) the batched inserts also collapse into fewer round trips.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = "-Xmx1g")
+public class EmployeeIdGenerationBenchmark {
+
+    private static final int EMPLOYEES = 100_000;
+    private static final int BATCH_SIZE = 50;
+
+    @Param({"IDENTITY", "SEQUENCE", "POOLED"})
+    private String strategy;
+
+    private Server server;
+    private Connection keepAlive;
+    private SessionFactory sessionFactory;
+    private Long departmentId;
+
+    @Setup(Level.Trial)
+    public void createSchema() throws SQLException, IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        server = Server.createTcpServer("-tcpPort", String.valueOf(port), "-ifNotExists").start();
+        String url = "jdbc:h2:tcp://localhost:" + port + "/mem:idgen_" + strategy + ";DB_CLOSE_DELAY=-1";
+        keepAlive = DriverManager.getConnection(url, "sa", "");
+
+        // Let Hibernate create the tables and sequences, then set the increment under test;
+        // the measured session factory adopts it through the mismatch strategy, as the service does
+        configuration(url).setProperty("hibernate.hbm2ddl.auto", "create").buildSessionFactory().close();
+        try (Statement statement = keepAlive.createStatement()) {
+            statement.execute("ALTER SEQUENCE employees_id_seq INCREMENT BY "
+                    + ("SEQUENCE".equals(strategy) ? 1 : BATCH_SIZE));
+        }
+        sessionFactory = configuration(url).buildSessionFactory();
+
+        Department department = new Department();
+        department.setName("Engineering");
+        sessionFactory.inTransaction(session -> session.persist(department));
+        departmentId = department.getId();
+    }
+
+    @Setup(Level.Iteration)
+    public void truncate() throws SQLException {
+        try (Statement statement = keepAlive.createStatement()) {
+            statement.execute("TRUNCATE TABLE employees");
+            statement.execute("TRUNCATE TABLE identity_employees");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void close() throws SQLException {
+        sessionFactory.close();
+        keepAlive.close();
+        server.stop();
+    }
+
+    @Benchmark
+    public int persistEmployees() {
+        try (Session session = sessionFactory.openSession()) {
+            Transaction transaction = session.beginTransaction();
+            for (int i = 0; i < EMPLOYEES; i++) {
+                session.persist("IDENTITY".equals(strategy) ? identityEmployee(i) : employee(session, i));
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    session.flush();
+                    session.clear();
+                }
+            }
+            transaction.commit();
+        }
+        return EMPLOYEES;
+    }
+
+    private Employee employee(Session session, int i) {
+        Employee employee = new Employee();
+        employee.setEmployeeId("EMP" + i);
+        employee.setFirstName("John");
+        employee.setLastName("Doe" + i);
+        employee.setEmail("john.doe" + i + "@company.com");
+        employee.setPosition("Engineer");
+        employee.setDepartment(session.getReference(Department.class, departmentId));
+        employee.setSalary(new BigDecimal("50000"));
+        employee.setStatus(EmployeeStatus.ACTIVE);
+        employee.setHireDate(LocalDate.of(2024, 1, 1));
+        return employee;
+    }
+
+    private IdentityEmployee identityEmployee(int i) {
+        IdentityEmployee employee = new IdentityEmployee();
+        employee.employeeId = "EMP" + i;
+        employee.firstName = "John";
+        employee.lastName = "Doe" + i;
+        employee.email = "john.doe" + i + "@company.com";
+        employee.position = "Engineer";
+        employee.departmentId = departmentId;
+        employee.salary = new BigDecimal("50000");
+        employee.status = EmployeeStatus.ACTIVE;
+        employee.hireDate = LocalDate.of(2024, 1, 1);
+        return employee;
+    }
+
+    private static Configuration configuration(String url) {
+        return new Configuration()
+                .addAnnotatedClass(Department.class)
+                .addAnnotatedClass(Employee.class)
+                .addAnnotatedClass(IdentityEmployee.class)
+                .setProperty("hibernate.connection.url", url)
+                .setProperty("hibernate.connection.username", "sa")
+                .setProperty("hibernate.connection.password", "")
+                .setProperty("hibernate.jdbc.batch_size", String.valueOf(BATCH_SIZE))
+                .setProperty("hibernate.order_inserts", "true")
+                .setProperty("hibernate.id.sequence.increment_size_mismatch_strategy", "fix");
+    }
+
+    /**
+     * The employee columns mapped with the IDENTITY strategy used before V6
+     */
+    @Entity
+    @Table(name = "identity_employees")
+    public static class IdentityEmployee {
+
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        Long id;
+
+        @Column(name = "employee_id", unique = true, nullable = false, length = 20)
+        String employeeId;
+
+        @Column(name = "first_name", nullable = false, length = 50)
+        String firstName;
+
+        @Column(name = "last_name", nullable = false, length = 50)
+        String lastName;
+
+        @Column(unique = true, nullable = false, length = 100)
+        String email;
+
+        @Column(length = 100)
+        String position;
+
+        @Column(name = "department_id")
+        Long departmentId;
+
+        @Column(precision = 10, scale = 2)
+        BigDecimal salary;
+
+        @Enumerated(EnumType.STRING)
+        @Column(nullable = false, length = 20)
+        EmployeeStatus status;
+
+        @Column(name = "hire_date")
+        LocalDate hireDate;
+    }
+}
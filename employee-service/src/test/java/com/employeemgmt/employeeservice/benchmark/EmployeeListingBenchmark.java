@@ -0,0 +1,175 @@
+package com.employeemgmt.employeeservice.benchmark;
+
+import com.employeemgmt.employeeservice.dto.EmployeeResponse;
+import com.employeemgmt.employeeservice.entity.Department;
+import com.employeemgmt.employeeservice.entity.Employee;
+import com.employeemgmt.employeeservice.entity.EmployeeStatus;
+import com.employeemgmt.employeeservice.repository.EmployeeRepository;
+import org.hibernate.FlushMode;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time and allocation to list all 100k employees through keyset pages, as the list endpoints do
+ * entities: the pre-projection path, a read-only session (as @Transactional(readOnly = true) sets up)
+ * loading employees with their department, then copying them into EmployeeResponse.
+ * projection: EmployeeRepository.RESPONSE_SELECT, which builds EmployeeResponse from the result set.
+ * pageSize 100 is the largest page the API serves; 100000 reads the whole table in one query.
+ * Run with -prof gc and compare gc.alloc.rate.norm for the allocation side. Uses in-memory H2,
+ * so the difference is Hibernate's per-row work rather than network time.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = "-Xmx1g")
+public class EmployeeListingBenchmark {
+
+    private static final int EMPLOYEES = 100_000;
+    private static final int DEPARTMENTS = 20;
+
+    private static final String ENTITY_PAGE =
+            "SELECT e FROM Employee e LEFT JOIN FETCH e.department WHERE e.id > :afterId ORDER BY e.id";
+    private static final String PROJECTION_PAGE = EmployeeRepository.RESPONSE_SELECT + "WHERE e.id > :afterId ORDER BY e.id";
+
+    @Param({"100", "100000"})
+    private int pageSize;
+
+    private SessionFactory sessionFactory;
+
+    @Setup(Level.Trial)
+    public void populate() {
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(Department.class)
+                .addAnnotatedClass(Employee.class)
+                .setProperty("hibernate.connection.url", "jdbc:h2:mem:listing;DB_CLOSE_DELAY=-1")
+                .setProperty("hibernate.connection.username", "sa")
+                .setProperty("hibernate.connection.password", "")
+                .setProperty("hibernate.hbm2ddl.auto", "create")
+                .setProperty("hibernate.jdbc.batch_size", "50")
+                .buildSessionFactory();
+
+        try (StatelessSession session = sessionFactory.openStatelessSession()) {
+            session.beginTransaction();
+            Department[] departments = new Department[DEPARTMENTS];
+            for (int d = 0; d < DEPARTMENTS; d++) {
+                departments[d] = new Department();
+                departments[d].setName("Department " + d);
+                session.insert(departments[d]);
+            }
+            for (int i = 0; i < EMPLOYEES; i++) {
+                Employee employee = new Employee();
+                employee.setEmployeeId("EMP" + i);
+                employee.setFirstName("John");
+                employee.setLastName("Doe" + i);
+                employee.setEmail("john.doe" + i + "@company.com");
+                employee.setPhone("+1-555-0100");
+                employee.setPosition("Engineer");
+                employee.setDepartment(departments[i % DEPARTMENTS]);
+                employee.setSalary(new BigDecimal("50000"));
+                employee.setStatus(EmployeeStatus.ACTIVE);
+                employee.setHireDate(LocalDate.of(2024, 1, 1));
+                employee.setCreatedBy("benchmark");
+                session.insert(employee);
+            }
+            session.getTransaction().commit();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void close() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public long entities() {
+        long listed = 0;
+        long afterId = 0;
+        List<EmployeeResponse> page;
+        do {
+            try (Session session = readOnlySession()) {
+                session.beginTransaction();
+                List<Employee> rows = session.createSelectionQuery(ENTITY_PAGE, Employee.class)
+                        .setParameter("afterId", afterId)
+                        .setMaxResults(pageSize)
+                        .getResultList();
+                page = rows.stream().map(EmployeeListingBenchmark::mapToResponse).toList();
+                session.getTransaction().commit();
+            }
+            listed += page.size();
+            afterId = page.isEmpty() ? afterId : page.get(page.size() - 1).getId();
+        } while (page.size() == pageSize);
+        return listed;
+    }
+
+    @Benchmark
+    public long projection() {
+        long listed = 0;
+        long afterId = 0;
+        List<EmployeeResponse> page;
+        do {
+            try (Session session = readOnlySession()) {
+                session.beginTransaction();
+                page = session.createSelectionQuery(PROJECTION_PAGE, EmployeeResponse.class)
+                        .setParameter("afterId", afterId)
+                        .setMaxResults(pageSize)
+                        .getResultList();
+                session.getTransaction().commit();
+            }
+            listed += page.size();
+            afterId = page.isEmpty() ? afterId : page.get(page.size() - 1).getId();
+        } while (page.size() == pageSize);
+        return listed;
+    }
+
+    private Session readOnlySession() {
+        Session session = sessionFactory.openSession();
+        session.setDefaultReadOnly(true);
+        session.setHibernateFlushMode(FlushMode.MANUAL);
+        return session;
+    }
+
+    /**
+     * The field-by-field copy EmployeeService did for every listed entity
+     */
+    private static EmployeeResponse mapToResponse(Employee employee) {
+        return EmployeeResponse.builder()
+                .id(employee.getId())
+                .employeeId(employee.getEmployeeId())
+                .firstName(employee.getFirstName())
+                .lastName(employee.getLastName())
+                .email(employee.getEmail())
+                .phone(employee.getPhone())
+                .position(employee.getPosition())
+                .departmentId(employee.getDepartment() != null ? employee.getDepartment().getId() : null)
+                .departmentName(employee.getDepartment() != null ? employee.getDepartment().getName() : null)
+                .salary(employee.getSalary())
+                .status(employee.getStatus())
+                .hireDate(employee.getHireDate())
+                .createdBy(employee.getCreatedBy())
+                .createdAt(employee.getCreatedAt())
+                .updatedAt(employee.getUpdatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,79 @@
+package com.employeemgmt.employeeservice.benchmark;
+
+import com.employeemgmt.employeeservice.dto.TypeaheadSuggestion;
+import com.employeemgmt.employeeservice.search.TypeaheadIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Typeahead lookup cost at 100k and 1M indexed employees
+ * Queries are 1-4 character prefixes of names, emails or employee codes, top 10 results.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx3g")
+public class TypeaheadIndexBenchmark {
+
+    private static final String[] FIRST_NAMES = {
+            "James", "Mary", "John", "Patricia", "Robert", "Jennifer", "Michael", "Linda", "William", "Elizabeth",
+            "David", "Barbara", "Richard", "Susan", "Joseph", "Jessica", "Thomas", "Sarah", "Charles", "Karen",
+            "Amara", "Chidi", "Ngozi", "Emeka", "Kenji", "Yuki", "Priya", "Arjun", "Lucia", "Mateo"
+    };
+    private static final String[] LAST_NAMES = {
+            "Smith", "Johnson", "Williams", "Brown", "Jones", "Garcia", "Miller", "Davis", "Rodriguez", "Martinez",
+            "Okafor", "Adeyemi", "Nwosu", "Tanaka", "Sato", "Patel", "Sharma", "Rossi", "Silva", "Kowalski"
+    };
+    private static final int QUERIES = 4096;
+
+    @Param({"100000", "1000000"})
+    private int entries;
+
+    private TypeaheadIndex index;
+    private String[] queries;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void buildIndex() {
+        Random random = new Random(42);
+        index = new TypeaheadIndex();
+        for (long id = 1; id <= entries; id++) {
+            String first = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+            String last = LAST_NAMES[random.nextInt(LAST_NAMES.length)] + (id % 997);
+            index.put(new TypeaheadSuggestion(id, "EMP" + id, first, last,
+                    first.toLowerCase() + "." + last.toLowerCase() + id + "@company.com"));
+        }
+
+        queries = new String[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            String source = switch (random.nextInt(3)) {
+                case 0 -> FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+                case 1 -> LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+                default -> "emp" + (1 + random.nextInt(entries));
+            };
+            queries[i] = source.substring(0, Math.min(source.length(), 1 + random.nextInt(4)));
+        }
+    }
+
+    @Benchmark
+    public List<TypeaheadSuggestion> topTen() {
+        String query = queries[next++ & (QUERIES - 1)];
+        return index.search(query, 10);
+    }
+}
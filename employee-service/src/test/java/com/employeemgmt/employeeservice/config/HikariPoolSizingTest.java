@@ -0,0 +1,56 @@
+package com.employeemgmt.employeeservice.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HikariPoolSizingTest {
+
+    @Test
+    void shouldSizePoolFromCoresConnectionsPerCoreAndSpindles() {
+        // Given
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("employee.datasource.pool.cores", "8")
+                .withProperty("employee.datasource.pool.connections-per-core", "2")
+                .withProperty("employee.datasource.pool.spindles", "1");
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setMinimumIdle(40);
+
+        // When
+        new HikariPoolSizing(environment, "employee.datasource.pool")
+                .postProcessAfterInitialization(dataSource, "dataSource");
+
+        // Then - minimum idle is capped at the derived size
+        assertThat(dataSource.getMaximumPoolSize()).isEqualTo(17);
+        assertThat(dataSource.getMinimumIdle()).isEqualTo(17);
+    }
+
+    @Test
+    void shouldKeepExplicitMaximumPoolSize() {
+        // Given
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("spring.datasource.hikari.maximum-pool-size", "20")
+                .withProperty("employee.datasource.pool.connections-per-core", "2");
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setMaximumPoolSize(20);
+
+        // When
+        new HikariPoolSizing(environment, "employee.datasource.pool")
+                .postProcessAfterInitialization(dataSource, "dataSource");
+
+        // Then
+        assertThat(dataSource.getMaximumPoolSize()).isEqualTo(20);
+    }
+
+    @Test
+    void shouldDefaultToLocalProcessors() {
+        // When
+        int size = HikariPoolSizing.poolSize(Runtime.getRuntime().availableProcessors(), 2, 1);
+
+        // Then
+        assertThat(size).isEqualTo(Runtime.getRuntime().availableProcessors() * 2 + 1);
+        assertThat(HikariPoolSizing.poolSize(0, 2, 0)).isEqualTo(1);
+    }
+}
@@ -0,0 +1,24 @@
+package com.employeemgmt.employeeservice.config;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class R2dbcConfigTest {
+
+    @Test
+    void shouldDeriveR2dbcUrlFromJdbcUrl() {
+        // When & Then
+        assertThat(R2dbcConfig.r2dbcUrl("jdbc:postgresql://db.internal:5432/employee_db_micro_service"))
+                .isEqualTo("r2dbc:postgresql://db.internal:5432/employee_db_micro_service");
+    }
+
+    @Test
+    void shouldRequireAnUrlToDeriveFrom() {
+        // When & Then
+        assertThatThrownBy(() -> R2dbcConfig.r2dbcUrl(""))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("spring.r2dbc.url");
+    }
+}
@@ -0,0 +1,26 @@
+package com.employeemgmt.employeeservice.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReadReplicaEnvironmentPostProcessorTest {
+
+    @Test
+    void shouldDisableOpenInViewWhenReplicasAreConfigured() {
+        // Given
+        MockEnvironment withReplicas = new MockEnvironment()
+                .withProperty("employee.datasource.replicas.urls", "jdbc:postgresql://replica:5432/employee_db_micro_service")
+                .withProperty("spring.jpa.open-in-view", "true");
+        MockEnvironment withoutReplicas = new MockEnvironment();
+
+        // When
+        new ReadReplicaEnvironmentPostProcessor().postProcessEnvironment(withReplicas, null);
+        new ReadReplicaEnvironmentPostProcessor().postProcessEnvironment(withoutReplicas, null);
+
+        // Then
+        assertThat(withReplicas.getProperty("spring.jpa.open-in-view")).isEqualTo("false");
+        assertThat(withoutReplicas.containsProperty("spring.jpa.open-in-view")).isFalse();
+    }
+}
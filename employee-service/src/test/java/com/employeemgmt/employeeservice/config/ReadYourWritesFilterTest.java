@@ -0,0 +1,47 @@
+package com.employeemgmt.employeeservice.config;
+
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReadYourWritesFilterTest {
+
+    private final ReadYourWritesFilter filter = new ReadYourWritesFilter(Duration.ofSeconds(6));
+
+    @Test
+    void shouldPinWritesWithoutUserId() throws Exception {
+        // When & Then - e.g. a call that bypassed the gateway
+        assertThat(pinnedDuring(new MockHttpServletRequest("POST", "/employees"))).isTrue();
+        assertThat(ReplicaRoutingDataSource.isPinnedToPrimary()).isFalse();
+    }
+
+    @Test
+    void shouldPinReadsOfRecentWriterOnly() throws Exception {
+        // Given
+        filter.doFilter(request("PUT", "/employees/1", "writer"), new MockHttpServletResponse(), (req, res) -> { });
+
+        // When & Then
+        assertThat(pinnedDuring(request("GET", "/employees/1", "writer"))).isTrue();
+        assertThat(pinnedDuring(request("GET", "/employees/1", "reader"))).isFalse();
+        assertThat(pinnedDuring(new MockHttpServletRequest("GET", "/employees/1"))).isFalse();
+    }
+
+    private boolean pinnedDuring(MockHttpServletRequest request) throws Exception {
+        AtomicBoolean pinned = new AtomicBoolean();
+        FilterChain chain = (req, res) -> pinned.set(ReplicaRoutingDataSource.isPinnedToPrimary());
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+        return pinned.get();
+    }
+
+    private static MockHttpServletRequest request(String method, String uri, String userId) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        request.addHeader("X-User-Id", userId);
+        return request;
+    }
+}
@@ -0,0 +1,144 @@
+package com.employeemgmt.employeeservice.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "employee.datasource.replicas.urls=jdbc:h2:mem:replica1;DB_CLOSE_DELAY=-1,jdbc:h2:mem:replica2;DB_CLOSE_DELAY=-1",
+        "employee.datasource.replicas.lag-query=SELECT lag FROM replication_status",
+        "employee.datasource.replicas.max-lag=1s"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(ReadReplicaConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ReplicaRoutingTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ReadReplicas readReplicas;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        setLag("replica1", 0);
+        setLag("replica2", 0);
+        readReplicas.checkHealth();
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReplicaRoutingDataSource.unpin();
+    }
+
+    @Test
+    void shouldSendReadOnlyTransactionsToReplicasInTurn() {
+        // When
+        List<String> databases = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            databases.add(databaseIn(readOnly()));
+        }
+
+        // Then
+        assertThat(databases).containsOnly("REPLICA1", "REPLICA2");
+        assertThat(databases.get(0)).isNotEqualTo(databases.get(1));
+        assertThat(databases.get(0)).isEqualTo(databases.get(2));
+    }
+
+    @Test
+    void shouldKeepReadWriteTransactionsOnPrimary() {
+        // When & Then
+        assertThat(databaseIn(new TransactionTemplate(transactionManager))).isEqualTo("TESTDB");
+    }
+
+    @Test
+    void shouldSkipReplicaThatLagsBeyondBound() throws SQLException {
+        // Given
+        setLag("replica1", 5);
+        readReplicas.checkHealth();
+
+        // When & Then
+        assertThat(databaseIn(readOnly())).isEqualTo("REPLICA2");
+        assertThat(databaseIn(readOnly())).isEqualTo("REPLICA2");
+    }
+
+    @Test
+    void shouldFallBackToPrimaryWhenNoReplicaIsEligible() throws SQLException {
+        // Given
+        setLag("replica1", 5);
+        setLag("replica2", 5);
+        readReplicas.checkHealth();
+
+        // When & Then
+        assertThat(databaseIn(readOnly())).isEqualTo("TESTDB");
+    }
+
+    @Test
+    void shouldReadFromPrimaryWhilePinned() {
+        // Given - what ReadYourWritesFilter does for a user who has just written
+        ReplicaRoutingDataSource.pinToPrimary();
+
+        // When & Then
+        assertThat(databaseIn(readOnly())).isEqualTo("TESTDB");
+    }
+
+    @Test
+    void shouldSendConnectionsWithExplicitCredentialsToPrimary() throws SQLException {
+        // Given
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(
+                new DriverManagerDataSource("jdbc:h2:mem:testdb"), readReplicas);
+
+        // When & Then
+        try (Connection connection = routing.getConnection("sa", "");
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT DATABASE()")) {
+            assertThat(resultSet.next()).isTrue();
+            assertThat(resultSet.getString(1)).isEqualTo("TESTDB");
+        }
+    }
+
+    private TransactionTemplate readOnly() {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        return template;
+    }
+
+    private String databaseIn(TransactionTemplate template) {
+        return template.execute(status -> jdbcTemplate.queryForObject("SELECT DATABASE()", String.class));
+    }
+
+    private static void setLag(String replica, double lagSeconds) throws SQLException {
+        try (Connection connection = DriverManager.getConnection("jdbc:h2:mem:" + replica + ";DB_CLOSE_DELAY=-1", "sa", "");
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE IF NOT EXISTS replication_status (lag DOUBLE)");
+            statement.execute("DELETE FROM replication_status");
+            statement.execute("INSERT INTO replication_status VALUES (" + lagSeconds + ")");
+        }
+    }
+}
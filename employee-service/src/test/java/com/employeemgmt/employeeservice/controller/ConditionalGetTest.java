@@ -0,0 +1,126 @@
+package com.employeemgmt.employeeservice.controller;
+
+import com.employeemgmt.employeeservice.dto.CursorPage;
+import com.employeemgmt.employeeservice.dto.DepartmentResponse;
+import com.employeemgmt.employeeservice.dto.EmployeeResponse;
+import com.employeemgmt.employeeservice.search.EmployeeTypeaheadService;
+import com.employeemgmt.employeeservice.service.DepartmentService;
+import com.employeemgmt.employeeservice.service.EmployeeBulkUpdateService;
+import com.employeemgmt.employeeservice.service.EmployeeImportService;
+import com.employeemgmt.employeeservice.service.EmployeeService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(controllers = {EmployeeController.class, DepartmentController.class})
+@ActiveProfiles("test")
+class ConditionalGetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private EmployeeService employeeService;
+
+    @MockitoBean
+    private EmployeeTypeaheadService typeaheadService;
+
+    @MockitoBean
+    private EmployeeImportService importService;
+
+    @MockitoBean
+    private EmployeeBulkUpdateService bulkUpdateService;
+
+    @MockitoBean
+    private DepartmentService departmentService;
+
+    @Test
+    void shouldAnswerMatchingIfNoneMatchWithNotModified() throws Exception {
+        // Given
+        when(employeeService.getEmployeeById(1L)).thenReturn(employee("Engineering", LocalDateTime.of(2024, 1, 1, 9, 0)));
+        String etag = mockMvc.perform(get("/employees/1").header("X-User-Role", "ADMIN"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "max-age=0, must-revalidate"))
+                .andExpect(header().string("Vary", "Authorization"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        // When & Then
+        mockMvc.perform(get("/employees/1").header("X-User-Role", "ADMIN").header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", etag))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void shouldChangeEtagWhenEmployeeOrItsDepartmentNameChanges() throws Exception {
+        // Given
+        LocalDateTime updatedAt = LocalDateTime.of(2024, 1, 1, 9, 0);
+        String original = EntityTags.of(employee("Engineering", updatedAt));
+
+        // When & Then
+        assertThat(EntityTags.of(employee("Engineering", updatedAt))).isEqualTo(original);
+        assertThat(EntityTags.of(employee("Engineering", updatedAt.plusNanos(1000)))).isNotEqualTo(original);
+        assertThat(EntityTags.of(employee("Platform", updatedAt))).isNotEqualTo(original);
+
+        when(employeeService.getEmployeeById(1L)).thenReturn(employee("Platform", updatedAt));
+        mockMvc.perform(get("/employees/1").header("X-User-Role", "ADMIN").header("If-None-Match", original))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.departmentName").value("Platform"));
+    }
+
+    @Test
+    void shouldRevalidatePagesAndDepartmentListings() throws Exception {
+        // Given
+        CursorPage<EmployeeResponse> page = CursorPage.<EmployeeResponse>builder()
+                .items(List.of(employee("Engineering", LocalDateTime.of(2024, 1, 1, 9, 0))))
+                .size(1).hasNext(false).build();
+        when(employeeService.getEmployeesByDepartment(1L, null, null)).thenReturn(page);
+        DepartmentResponse department = DepartmentResponse.builder()
+                .id(1L).name("Engineering").employeeCount(1).updatedAt(LocalDateTime.of(2024, 1, 1, 9, 0)).build();
+        when(departmentService.getAllDepartments()).thenReturn(List.of(department));
+
+        // When & Then
+        mockMvc.perform(get("/employees/department/1").header("X-User-Role", "MANAGER")
+                        .header("If-None-Match", EntityTags.ofPage(page)))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/departments").header("If-None-Match", EntityTags.ofDepartments(List.of(department))))
+                .andExpect(status().isNotModified());
+
+        department.setEmployeeCount(2);
+        mockMvc.perform(get("/departments").header("If-None-Match", EntityTags.ofDepartments(List.of(
+                        DepartmentResponse.builder().id(1L).name("Engineering").employeeCount(1)
+                                .updatedAt(LocalDateTime.of(2024, 1, 1, 9, 0)).build()))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].employeeCount").value(2));
+    }
+
+    @Test
+    void shouldNotLeakValidatorsOnForbiddenReads() throws Exception {
+        mockMvc.perform(get("/employees/department/1").header("X-User-Role", "EMPLOYEE"))
+                .andExpect(status().isForbidden())
+                .andExpect(header().doesNotExist("ETag"));
+    }
+
+    private static EmployeeResponse employee(String departmentName, LocalDateTime updatedAt) {
+        return EmployeeResponse.builder()
+                .id(1L)
+                .employeeId("EMP001")
+                .firstName("Ada")
+                .lastName("Lovelace")
+                .departmentId(1L)
+                .departmentName(departmentName)
+                .updatedAt(updatedAt)
+                .build();
+    }
+}
@@ -0,0 +1,120 @@
+package com.employeemgmt.employeeservice.controller;
+
+import com.employeemgmt.employeeservice.dto.ExportFormat;
+import com.employeemgmt.employeeservice.search.EmployeeTypeaheadService;
+import com.employeemgmt.employeeservice.service.DepartmentService;
+import com.employeemgmt.employeeservice.service.EmployeeBulkUpdateService;
+import com.employeemgmt.employeeservice.service.EmployeeImportService;
+import com.employeemgmt.employeeservice.service.EmployeeService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(controllers = {EmployeeController.class, DepartmentController.class})
+@ActiveProfiles("test")
+class EmployeeExportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private EmployeeService employeeService;
+
+    @MockitoBean
+    private EmployeeTypeaheadService typeaheadService;
+
+    @MockitoBean
+    private EmployeeImportService importService;
+
+    @MockitoBean
+    private EmployeeBulkUpdateService bulkUpdateService;
+
+    @MockitoBean
+    private DepartmentService departmentService;
+
+    @Test
+    void shouldStreamExportAsAttachmentAfterAsyncDispatch() throws Exception {
+        // Given
+        doAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(1);
+            out.write("id,employeeId\n1,EMP001\n".getBytes(StandardCharsets.UTF_8));
+            return 1L;
+        }).when(employeeService).exportEmployees(eq(ExportFormat.CSV), any(OutputStream.class));
+
+        // When - the body is written on the async executor, not in the request thread
+        MvcResult result = mockMvc.perform(get("/employees/export").param("format", "CSV")
+                        .header("X-User-Role", "MANAGER"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("text/csv"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"employees.csv\""))
+                .andExpect(content().string("id,employeeId\n1,EMP001\n"));
+    }
+
+    @Test
+    void shouldGiveOnlyTheExportItsOwnAsyncTimeout() throws Exception {
+        // Given
+        doAnswer(invocation -> 0L).when(employeeService).exportEmployees(eq(ExportFormat.CSV), any(OutputStream.class));
+
+        // When
+        MvcResult result = mockMvc.perform(get("/employees/export").param("format", "CSV")
+                        .header("X-User-Role", "ADMIN"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then - employee.export.timeout, not spring.mvc.async.request-timeout
+        assertThat(result.getRequest().getAsyncContext().getTimeout()).isEqualTo(Duration.ofMinutes(30).toMillis());
+        mockMvc.perform(asyncDispatch(result)).andExpect(status().isOk());
+    }
+
+    @Test
+    void shouldDefaultToNdjson() throws Exception {
+        // Given
+        doAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(1);
+            out.write("{\"id\":1}\n".getBytes(StandardCharsets.UTF_8));
+            return 1L;
+        }).when(employeeService).exportEmployees(eq(ExportFormat.NDJSON), any(OutputStream.class));
+
+        // When
+        MvcResult result = mockMvc.perform(get("/employees/export").header("X-User-Role", "ADMIN"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"employees.ndjson\""))
+                .andExpect(content().string("{\"id\":1}\n"));
+    }
+
+    @Test
+    void shouldForbidExportForEmployees() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/employees/export").header("X-User-Role", "EMPLOYEE"))
+                .andExpect(status().isForbidden());
+        verifyNoInteractions(employeeService);
+    }
+}
@@ -0,0 +1,74 @@
+package com.employeemgmt.employeeservice.controller;
+
+import com.employeemgmt.employeeservice.dto.EmployeeResponse;
+import com.employeemgmt.employeeservice.entity.EmployeeStatus;
+import com.employeemgmt.employeeservice.service.EmployeeStreamService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import reactor.core.publisher.Flux;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(controllers = EmployeeStreamController.class, properties = "employee.stream.rows-per-chunk=2")
+@ActiveProfiles("test")
+class EmployeeStreamControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private EmployeeStreamService employeeStreamService;
+
+    @Test
+    void shouldStreamOneJsonLinePerEmployee() throws Exception {
+        // Given - five employees, written in chunks of two
+        when(employeeStreamService.streamEmployeesByStatus(EmployeeStatus.ACTIVE))
+                .thenReturn(Flux.fromStream(IntStream.rangeClosed(1, 5).mapToObj(this::employee)));
+
+        // When
+        MvcResult started = mockMvc.perform(get("/employees/stream/status/ACTIVE").header("X-User-Role", "MANAGER"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        String body = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andExpect(header().string("Cache-Control", "no-store"))
+                .andReturn().getResponse().getContentAsString();
+        assertThat(body.lines()).hasSize(5)
+                .allMatch(line -> line.startsWith("{\"id\":"))
+                .last().asString().contains("\"employeeId\":\"EMP5\"");
+    }
+
+    @Test
+    void shouldForbidEmployeeRole() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/employees/stream/department/1").header("X-User-Role", "EMPLOYEE"))
+                .andExpect(status().isForbidden());
+        verifyNoInteractions(employeeStreamService);
+    }
+
+    private EmployeeResponse employee(int i) {
+        return EmployeeResponse.builder()
+                .id((long) i)
+                .employeeId("EMP" + i)
+                .firstName("John")
+                .lastName("Doe" + i)
+                .status(EmployeeStatus.ACTIVE)
+                .build();
+    }
+}
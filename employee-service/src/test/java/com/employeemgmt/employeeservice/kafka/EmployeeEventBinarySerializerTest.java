@@ -0,0 +1,150 @@
+package com.employeemgmt.employeeservice.kafka;
+
+import com.employeemgmt.employeeservice.entity.EmployeeStatus;
+import com.employeemgmt.employeeservice.event.EmployeeEvent;
+import com.employeemgmt.employeeservice.event.EventType;
+import org.apache.kafka.common.errors.SerializationException;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EmployeeEventBinarySerializerTest {
+
+    private final EmployeeEventBinarySerializer serializer = new EmployeeEventBinarySerializer();
+    private final EmployeeEventBinaryDeserializer deserializer = new EmployeeEventBinaryDeserializer();
+
+    @Test
+    void shouldRoundTripFullEvent() {
+        // Given
+        EmployeeEvent event = fullEvent();
+
+        // When
+        byte[] data = serializer.serialize("employee-events", event);
+
+        // Then
+        assertThat(data[0]).isEqualTo(EmployeeEventCodec.MAGIC);
+        assertThat(data[1]).isEqualTo(EmployeeEventCodec.VERSION);
+        assertThat(deserializer.deserialize("employee-events", data)).isEqualTo(event);
+    }
+
+    @Test
+    void shouldRoundTripEventWithMissingFields() {
+        // Given
+        EmployeeEvent event = EmployeeEvent.builder()
+                .eventType(EventType.EMPLOYEE_DELETED)
+                .employeeId(-7L)
+                .employeeIdCode("EMP001")
+                .salary(new BigDecimal("-0.05"))
+                .build();
+
+        // When
+        byte[] data = serializer.serialize("employee-events", event);
+
+        // Then
+        assertThat(deserializer.deserialize("employee-events", data)).isEqualTo(event);
+    }
+
+    @Test
+    void shouldRoundTripBulkEvent() {
+        // Given
+        EmployeeEvent event = EmployeeEvent.builder()
+                .eventType(EventType.EMPLOYEE_BULK_UPDATED)
+                .employeeIds(List.of(3L, 4L, 5L, 1_000_000L))
+                .status(EmployeeStatus.TERMINATED)
+                .performedBy("admin")
+                .timestamp(LocalDateTime.of(2024, 6, 1, 12, 0))
+                .build();
+
+        // When
+        byte[] data = serializer.serialize("employee-events", event);
+
+        // Then
+        assertThat(deserializer.deserialize("employee-events", data)).isEqualTo(event);
+        assertThat(event.recordKey()).isEqualTo(EmployeeEvent.BULK_RECORD_KEY);
+    }
+
+    @Test
+    void shouldBeSmallerThanJson() {
+        // Given
+        EmployeeEvent event = fullEvent();
+
+        // When
+        byte[] binary = serializer.serialize("employee-events", event);
+        byte[] json;
+        try (JsonSerializer<EmployeeEvent> jsonSerializer = new JsonSerializer<>()) {
+            json = jsonSerializer.serialize("employee-events", event);
+        }
+
+        // Then
+        assertThat(binary.length).isLessThan(json.length / 2);
+        assertThat(deserializer.deserialize("employee-events", json)).isEqualTo(event);
+    }
+
+    @Test
+    void shouldRejectUnknownVersionAndTruncatedData() {
+        // Given
+        byte[] data = serializer.serialize("employee-events", fullEvent());
+        byte[] futureVersion = data.clone();
+        futureVersion[1] = 2;
+
+        // When & Then
+        assertThatThrownBy(() -> deserializer.deserialize("employee-events", futureVersion))
+                .isInstanceOf(SerializationException.class);
+        assertThatThrownBy(() -> deserializer.deserialize("employee-events", Arrays.copyOf(data, data.length - 3)))
+                .isInstanceOf(SerializationException.class);
+    }
+
+    @Test
+    void shouldRejectCorruptLengthsWithoutAllocating() {
+        // Given - employeeIdCode present, its length a varint of 2^31 - 1 and of 2^31 (negative as int)
+        byte[] oversized = {EmployeeEventCodec.MAGIC, EmployeeEventCodec.VERSION, 0, 1 << 2,
+                (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07, 'E'};
+        byte[] negative = {EmployeeEventCodec.MAGIC, EmployeeEventCodec.VERSION, 0, 1 << 2,
+                (byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, 0x08, 'E'};
+
+        // When & Then
+        assertThatThrownBy(() -> deserializer.deserialize("employee-events", oversized))
+                .isInstanceOf(SerializationException.class)
+                .hasRootCauseInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> deserializer.deserialize("employee-events", negative))
+                .isInstanceOf(SerializationException.class)
+                .hasRootCauseInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldRejectBulkIdCountBeyondPayload() {
+        // Given - employeeIds present (field 13) with a count of 2^31 - 1 and one byte left
+        byte[] data = {EmployeeEventCodec.MAGIC, EmployeeEventCodec.VERSION, 1 << 5, 0,
+                (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07, 0x02};
+
+        // When & Then
+        assertThatThrownBy(() -> deserializer.deserialize("employee-events", data))
+                .isInstanceOf(SerializationException.class)
+                .hasRootCauseInstanceOf(IllegalArgumentException.class);
+    }
+
+    private EmployeeEvent fullEvent() {
+        return EmployeeEvent.builder()
+                .eventType(EventType.EMPLOYEE_UPDATED)
+                .employeeId(12345L)
+                .employeeIdCode("EMP012345")
+                .firstName("Chidi")
+                .lastName("Okafor")
+                .email("chidi.okafor@company.com")
+                .position("Senior Developer")
+                .departmentId(3L)
+                .departmentName("Engineering")
+                .salary(new BigDecimal("98500.50"))
+                .status(EmployeeStatus.ON_LEAVE)
+                .performedBy("admin")
+                .timestamp(LocalDateTime.of(2026, 3, 14, 9, 26, 53, 589_793_000))
+                .build();
+    }
+}
@@ -0,0 +1,77 @@
+package com.employeemgmt.employeeservice.kafka;
+
+import com.employeemgmt.employeeservice.config.KafkaConfig;
+import com.employeemgmt.employeeservice.event.EmployeeEvent;
+import com.employeemgmt.employeeservice.event.EventType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class KafkaProducerServiceTest {
+
+    @Mock
+    private KafkaTemplate<String, EmployeeEvent> kafkaTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private KafkaProducerService kafkaProducerService;
+    private EmployeeEvent event;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        kafkaProducerService = new KafkaProducerService(kafkaTemplate, meterRegistry, 1, 10);
+        event = EmployeeEvent.builder()
+                .eventType(EventType.EMPLOYEE_CREATED)
+                .employeeIdCode("EMP001")
+                .build();
+    }
+
+    @Test
+    void shouldRejectSendWhileWindowIsFullAndRecoverAfterAck() {
+        // Given
+        CompletableFuture<SendResult<String, EmployeeEvent>> pending = new CompletableFuture<>();
+        when(kafkaTemplate.send(eq(KafkaConfig.EMPLOYEE_EVENTS_TOPIC), eq("EMP001"), any(EmployeeEvent.class)))
+                .thenReturn(pending, CompletableFuture.completedFuture(null));
+        kafkaProducerService.sendEmployeeEvent(event);
+
+        // When & Then
+        assertThatThrownBy(() -> kafkaProducerService.sendEmployeeEvent(event))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("Too many employee events in flight");
+        assertThat(meterRegistry.get("employee.events.rejected").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("employee.events.in-flight").gauge().value()).isEqualTo(1);
+
+        pending.complete(null);
+        kafkaProducerService.sendEmployeeEvent(event);
+        assertThat(meterRegistry.get("employee.events.send").tag("outcome", "success").timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("employee.events.in-flight").gauge().value()).isZero();
+    }
+
+    @Test
+    void shouldRecordFailedSends() {
+        // Given
+        when(kafkaTemplate.send(eq(KafkaConfig.EMPLOYEE_EVENTS_TOPIC), eq("EMP001"), any(EmployeeEvent.class)))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker unavailable")));
+
+        // When
+        kafkaProducerService.sendEmployeeEvent(event);
+
+        // Then
+        assertThat(meterRegistry.get("employee.events.send").tag("outcome", "failure").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("employee.events.in-flight").gauge().value()).isZero();
+    }
+}
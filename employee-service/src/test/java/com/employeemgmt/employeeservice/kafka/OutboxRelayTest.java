@@ -0,0 +1,121 @@
+package com.employeemgmt.employeeservice.kafka;
+
+import com.employeemgmt.employeeservice.entity.OutboxEvent;
+import com.employeemgmt.employeeservice.event.EmployeeEvent;
+import com.employeemgmt.employeeservice.event.EventType;
+import com.employeemgmt.employeeservice.repository.OutboxEventRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private KafkaProducerService kafkaProducerService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        relay = new OutboxRelay(outboxEventRepository, kafkaProducerService, objectMapper, transactionManager);
+        ReflectionTestUtils.setField(relay, "batchSize", 10);
+        ReflectionTestUtils.setField(relay, "parallelism", 2);
+        ReflectionTestUtils.setField(relay, "sendTimeoutMs", 5000L);
+        relay.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        relay.stop();
+    }
+
+    @Test
+    void shouldPublishBatchInKeyOrderAndDeleteIt() throws Exception {
+        // Given
+        List<OutboxEvent> batch = List.of(
+                outboxEvent(1L, "EMP001", EventType.EMPLOYEE_CREATED),
+                outboxEvent(2L, "EMP002", EventType.EMPLOYEE_CREATED),
+                outboxEvent(3L, "EMP001", EventType.EMPLOYEE_UPDATED),
+                outboxEvent(4L, "EMP001", EventType.EMPLOYEE_DELETED));
+        when(outboxEventRepository.tryRelayLock(OutboxRelay.RELAY_LOCK_KEY)).thenReturn(true);
+        when(outboxEventRepository.findPending(any(Limit.class))).thenReturn(batch);
+        List<EmployeeEvent> sent = Collections.synchronizedList(new ArrayList<>());
+        when(kafkaProducerService.sendEmployeeEvent(any())).thenAnswer(invocation -> {
+            sent.add(invocation.getArgument(0));
+            return CompletableFuture.completedFuture(null);
+        });
+
+        // When
+        relay.drain();
+
+        // Then
+        assertThat(sent).hasSize(4);
+        assertThat(sent.stream().filter(event -> "EMP001".equals(event.getEmployeeIdCode())).map(EmployeeEvent::getEventType))
+                .containsExactly(EventType.EMPLOYEE_CREATED, EventType.EMPLOYEE_UPDATED, EventType.EMPLOYEE_DELETED);
+        verify(outboxEventRepository).deleteAllByIdInBatch(List.of(1L, 2L, 3L, 4L));
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void shouldKeepBatchWhenSendFails() throws Exception {
+        // Given
+        when(outboxEventRepository.tryRelayLock(OutboxRelay.RELAY_LOCK_KEY)).thenReturn(true);
+        when(outboxEventRepository.findPending(any(Limit.class)))
+                .thenReturn(List.of(outboxEvent(1L, "EMP001", EventType.EMPLOYEE_CREATED)));
+        when(kafkaProducerService.sendEmployeeEvent(any()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker unavailable")));
+
+        // When
+        relay.drain();
+
+        // Then
+        verify(outboxEventRepository, never()).deleteAllByIdInBatch(any());
+        verify(transactionManager).rollback(any());
+    }
+
+    @Test
+    void shouldSkipRunWhenAnotherInstanceHoldsRelayLock() {
+        // Given
+        when(outboxEventRepository.tryRelayLock(OutboxRelay.RELAY_LOCK_KEY)).thenReturn(false);
+
+        // When
+        relay.drain();
+
+        // Then
+        verify(outboxEventRepository, never()).findPending(any());
+        verifyNoInteractions(kafkaProducerService);
+    }
+
+    private OutboxEvent outboxEvent(Long id, String employeeCode, EventType eventType) throws Exception {
+        EmployeeEvent event = EmployeeEvent.builder()
+                .eventType(eventType)
+                .employeeIdCode(employeeCode)
+                .build();
+        return new OutboxEvent(id, employeeCode, eventType, objectMapper.writeValueAsString(event), null);
+    }
+}
@@ -0,0 +1,147 @@
+package com.employeemgmt.employeeservice.load;
+
+import com.employeemgmt.employeeservice.entity.Employee;
+import com.employeemgmt.employeeservice.entity.EmployeeStatus;
+import com.employeemgmt.employeeservice.repository.EmployeeRepository;
+import com.employeemgmt.employeeservice.support.LatencyInjectingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 2000 clients call GET /employees concurrently against a database that takes 20ms per statement
+ * and a pool of 20 connections. Subclasses pick the request execution model; both report
+ * throughput, p99 latency and how many requests were shed with 503 when the pool ran dry.
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.jpa.show-sql=false",
+        "spring.datasource.hikari.maximum-pool-size=20",
+        "spring.datasource.hikari.minimum-idle=20",
+        "spring.datasource.hikari.connection-timeout=2000",
+        "logging.level.com.employeemgmt=WARN"
+})
+abstract class ConcurrentClientLoadTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConcurrentClientLoadTest.class);
+
+    static final int CLIENTS = 2000;
+    static final int REQUESTS_PER_CLIENT = 5;
+    static final long STATEMENT_LATENCY_MS = 20;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @BeforeEach
+    void seedEmployees() {
+        if (employeeRepository.count() > 0) {
+            return;
+        }
+        List<Employee> employees = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            Employee employee = new Employee();
+            employee.setEmployeeId(String.format("LOAD%03d", i));
+            employee.setFirstName("John");
+            employee.setLastName("Doe" + i);
+            employee.setEmail("load" + i + "@company.com");
+            employee.setStatus(EmployeeStatus.ACTIVE);
+            employees.add(employee);
+        }
+        employeeRepository.saveAll(employees);
+    }
+
+    @Test
+    void shouldServeConcurrentClients() {
+        // Given
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(30)).build();
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/employees?size=20"))
+                .header("X-User-Role", "ADMIN")
+                .timeout(Duration.ofSeconds(60))
+                .build();
+        ConcurrentLinkedQueue<Long> latencies = new ConcurrentLinkedQueue<>();
+        AtomicInteger ok = new AtomicInteger();
+        AtomicInteger shed = new AtomicInteger();
+        AtomicInteger shedWithoutRetryAfter = new AtomicInteger();
+
+        // When - every client sends its requests one after another
+        long started = System.nanoTime();
+        CompletableFuture<?>[] clients = new CompletableFuture<?>[CLIENTS];
+        for (int c = 0; c < CLIENTS; c++) {
+            CompletableFuture<Void> chain = CompletableFuture.completedFuture(null);
+            for (int r = 0; r < REQUESTS_PER_CLIENT; r++) {
+                chain = chain.thenCompose(ignored -> {
+                    long sent = System.nanoTime();
+                    return client.sendAsync(request, HttpResponse.BodyHandlers.discarding()).thenAccept(response -> {
+                        latencies.add(System.nanoTime() - sent);
+                        if (response.statusCode() == 200) {
+                            ok.incrementAndGet();
+                        } else if (response.statusCode() == 503) {
+                            shed.incrementAndGet();
+                            if (response.headers().firstValue("Retry-After").isEmpty()) {
+                                shedWithoutRetryAfter.incrementAndGet();
+                            }
+                        }
+                    });
+                });
+            }
+            clients[c] = chain;
+        }
+        CompletableFuture.allOf(clients).join();
+        long elapsedNanos = System.nanoTime() - started;
+
+        // Then - every request was answered, either served or shed with a retry hint
+        List<Long> sorted = new ArrayList<>(latencies);
+        Collections.sort(sorted);
+        long p99Millis = Duration.ofNanos(sorted.get((int) Math.ceil(sorted.size() * 0.99) - 1)).toMillis();
+        double throughput = sorted.size() / (elapsedNanos / 1e9);
+        logger.warn("{}: {} requests from {} clients in {} ms, {} req/s, p99 {} ms, {} ok, {} shed with 503",
+                getClass().getSimpleName(), sorted.size(), CLIENTS, Duration.ofNanos(elapsedNanos).toMillis(),
+                Math.round(throughput), p99Millis, ok.get(), shed.get());
+
+        assertThat(ok.get() + shed.get()).isEqualTo(CLIENTS * REQUESTS_PER_CLIENT);
+        assertThat(ok.get()).isPositive();
+        assertThat(shedWithoutRetryAfter.get()).isZero();
+    }
+
+    @TestConfiguration
+    static class SlowDatabaseConfig {
+
+        @Bean
+        static BeanPostProcessor latencyInjectingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof HikariDataSource dataSource
+                            ? new LatencyInjectingDataSource(dataSource, STATEMENT_LATENCY_MS)
+                            : bean;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.employeemgmt.employeeservice.load;
+
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Default mode: Tomcat's 200 platform worker threads bound how many requests run at once
+ */
+@ActiveProfiles("test")
+class PlatformThreadLoadTest extends ConcurrentClientLoadTest {
+}
@@ -0,0 +1,13 @@
+package com.employeemgmt.employeeservice.load;
+
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * virtual-threads profile: every request gets a virtual thread, so the connection pool is the only bound
+ */
+@EnabledForJreRange(min = JRE.JAVA_21)
+@ActiveProfiles({"test", "virtual-threads"})
+class VirtualThreadLoadTest extends ConcurrentClientLoadTest {
+}
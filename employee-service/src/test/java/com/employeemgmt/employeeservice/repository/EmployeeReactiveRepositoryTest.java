@@ -0,0 +1,131 @@
+package com.employeemgmt.employeeservice.repository;
+
+import com.employeemgmt.employeeservice.config.R2dbcConfig;
+import com.employeemgmt.employeeservice.dto.EmployeeResponse;
+import com.employeemgmt.employeeservice.entity.Department;
+import com.employeemgmt.employeeservice.entity.Employee;
+import com.employeemgmt.employeeservice.entity.EmployeeStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Rows are written through JPA and committed, then read back over R2DBC from the same in-memory database
+ */
+@DataJpaTest(properties = "employee.stream.fetch-size=2")
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({R2dbcConfig.class, EmployeeReactiveRepository.class})
+class EmployeeReactiveRepositoryTest {
+
+    @Autowired
+    private EmployeeReactiveRepository reactiveRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    private Department engineering;
+
+    @BeforeEach
+    void setUp() {
+        engineering = new Department();
+        engineering.setName("Engineering");
+        engineering = departmentRepository.save(engineering);
+
+        List<Employee> employees = new ArrayList<>();
+        employees.add(employee("EMP001", "John", "Smith", engineering, EmployeeStatus.ACTIVE));
+        employees.add(employee("EMP002", "Jane", "Smithson", engineering, EmployeeStatus.ON_LEAVE));
+        employees.add(employee("EMP003", "Bob", "Johnson", null, EmployeeStatus.ACTIVE));
+        employees.add(employee("EMP004", "Alice", "Brown", engineering, EmployeeStatus.ACTIVE));
+        employeeRepository.saveAll(employees);
+    }
+
+    @AfterEach
+    void tearDown() {
+        employeeRepository.deleteAll();
+        departmentRepository.deleteAll();
+    }
+
+    @Test
+    void shouldStreamDepartmentMembersWithDepartmentName() {
+        // When
+        List<EmployeeResponse> employees = collect(reactiveRepository.streamByDepartmentId(engineering.getId()));
+
+        // Then - ordered by id across several fetches
+        assertThat(employees).extracting(EmployeeResponse::getEmployeeId)
+                .containsExactly("EMP001", "EMP002", "EMP004");
+        EmployeeResponse first = employees.get(0);
+        assertThat(first.getDepartmentName()).isEqualTo("Engineering");
+        assertThat(first.getSalary()).isEqualByComparingTo(new BigDecimal("50000"));
+        assertThat(first.getStatus()).isEqualTo(EmployeeStatus.ACTIVE);
+        assertThat(first.getEmail()).isEqualTo("emp001@company.com");
+    }
+
+    @Test
+    void shouldStreamByStatus() {
+        // When
+        List<EmployeeResponse> employees = collect(reactiveRepository.streamByStatus(EmployeeStatus.ACTIVE));
+
+        // Then
+        assertThat(employees).extracting(EmployeeResponse::getEmployeeId)
+                .containsExactly("EMP001", "EMP003", "EMP004");
+        assertThat(employees.get(1).getDepartmentId()).isNull();
+    }
+
+    @Test
+    void shouldStreamCaseInsensitiveNameMatches() {
+        // When
+        List<EmployeeResponse> employees = collect(reactiveRepository.streamByName("SMITH"));
+
+        // Then
+        assertThat(employees).extracting(EmployeeResponse::getLastName).containsExactly("Smith", "Smithson");
+    }
+
+    @Test
+    void shouldStopReadingWhenSubscriberCancels() {
+        // When - the subscriber only ever asks for one row
+        EmployeeResponse first = reactiveRepository.streamByStatus(EmployeeStatus.ACTIVE)
+                .limitRate(1)
+                .next()
+                .block(Duration.ofSeconds(10));
+
+        // Then
+        assertThat(first.getEmployeeId()).isEqualTo("EMP001");
+    }
+
+    private List<EmployeeResponse> collect(Flux<EmployeeResponse> employees) {
+        return employees.collectList().block(Duration.ofSeconds(10));
+    }
+
+    private Employee employee(String code, String firstName, String lastName, Department department,
+                              EmployeeStatus status) {
+        Employee employee = new Employee();
+        employee.setEmployeeId(code);
+        employee.setFirstName(firstName);
+        employee.setLastName(lastName);
+        employee.setEmail(code.toLowerCase() + "@company.com");
+        employee.setDepartment(department);
+        employee.setSalary(new BigDecimal("50000"));
+        employee.setStatus(status);
+        return employee;
+    }
+}
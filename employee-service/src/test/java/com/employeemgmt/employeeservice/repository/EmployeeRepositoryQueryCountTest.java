@@ -0,0 +1,138 @@
+package com.employeemgmt.employeeservice.repository;
+
+import com.employeemgmt.employeeservice.dto.EmployeeResponse;
+import com.employeemgmt.employeeservice.entity.Department;
+import com.employeemgmt.employeeservice.entity.Employee;
+import com.employeemgmt.employeeservice.entity.EmployeeStatus;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Guards against N+1 department loading: every listing query must return
+ * employees together with their departments in a single SQL statement.
+ * Keyset pages are projections and must not load any entity at all.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+class EmployeeRepositoryQueryCountTest {
+
+    private static final int DEPARTMENTS = 3;
+    private static final int EMPLOYEES_PER_DEPARTMENT = 4;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Statistics statistics;
+    private Long departmentId;
+
+    @BeforeEach
+    void setUp() {
+        for (int d = 0; d < DEPARTMENTS; d++) {
+            Department department = new Department();
+            department.setName("Department " + d);
+            department = entityManager.persist(department);
+            departmentId = department.getId();
+
+            for (int i = 0; i < EMPLOYEES_PER_DEPARTMENT; i++) {
+                Employee employee = new Employee();
+                employee.setEmployeeId("EMP" + d + i);
+                employee.setFirstName("John");
+                employee.setLastName("Doe" + d + i);
+                employee.setEmail("john.doe" + d + i + "@company.com");
+                employee.setDepartment(department);
+                employee.setSalary(new BigDecimal("50000"));
+                employee.setStatus(EmployeeStatus.ACTIVE);
+                employee.setHireDate(LocalDate.now());
+                entityManager.persist(employee);
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void findAllShouldUseOneStatement() {
+        assertSingleStatement(() -> employeeRepository.findAll(), DEPARTMENTS * EMPLOYEES_PER_DEPARTMENT);
+    }
+
+    @Test
+    void findByDepartmentIdShouldUseOneStatement() {
+        assertSingleStatement(() -> employeeRepository.findByDepartmentId(departmentId), EMPLOYEES_PER_DEPARTMENT);
+    }
+
+    @Test
+    void findByStatusShouldUseOneStatement() {
+        assertSingleStatement(() -> employeeRepository.findByStatus(EmployeeStatus.ACTIVE),
+                DEPARTMENTS * EMPLOYEES_PER_DEPARTMENT);
+    }
+
+    @Test
+    void findByDepartmentIdAndStatusShouldUseOneStatement() {
+        assertSingleStatement(() -> employeeRepository.findByDepartmentIdAndStatus(departmentId, EmployeeStatus.ACTIVE),
+                EMPLOYEES_PER_DEPARTMENT);
+    }
+
+    @Test
+    void searchByNameShouldUseOneStatement() {
+        assertSingleStatement(() -> employeeRepository.searchByName("john"), DEPARTMENTS * EMPLOYEES_PER_DEPARTMENT);
+    }
+
+    @Test
+    void keysetPagesShouldUseOneStatementWithoutLoadingEntities() {
+        assertSingleProjection(() -> employeeRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(5)), 5);
+        assertSingleProjection(() -> employeeRepository.findByDepartmentIdAndIdGreaterThanOrderByIdAsc(
+                departmentId, 0L, Limit.of(5)), EMPLOYEES_PER_DEPARTMENT);
+        assertSingleProjection(() -> employeeRepository.findByStatusAndIdGreaterThanOrderByIdAsc(
+                EmployeeStatus.ACTIVE, 0L, Limit.of(5)), 5);
+        assertSingleProjection(() -> employeeRepository.searchByName("john", 0L, Limit.of(5)), 5);
+        assertSingleProjection(() -> employeeRepository.searchRankedByName("john", Limit.of(5)), 5);
+    }
+
+    /**
+     * Runs the listing, touches what EmployeeService.mapToResponse reads from the
+     * department and asserts that only one statement reached the database
+     */
+    private void assertSingleStatement(Supplier<List<Employee>> listing, int expectedRows) {
+        entityManager.clear();
+        statistics.clear();
+
+        List<Employee> employees = listing.get();
+        employees.forEach(e -> assertThat(e.getDepartment().getName()).isNotNull());
+
+        assertThat(employees).hasSize(expectedRows);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    private void assertSingleProjection(Supplier<List<EmployeeResponse>> listing, int expectedRows) {
+        entityManager.clear();
+        statistics.clear();
+
+        List<EmployeeResponse> employees = listing.get();
+
+        assertThat(employees).hasSize(expectedRows)
+                .allSatisfy(e -> assertThat(e.getDepartmentName()).isNotNull());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+}
@@ -1,5 +1,6 @@
 package com.employeemgmt.employeeservice.repository;
 
+import com.employeemgmt.employeeservice.dto.EmployeeResponse;
 import com.employeemgmt.employeeservice.entity.Department;
 import com.employeemgmt.employeeservice.entity.Employee;
 import com.employeemgmt.employeeservice.entity.EmployeeStatus;
@@ -7,12 +8,14 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -110,4 +113,114 @@ class EmployeeRepositoryTest {
         assertThat(found).hasSize(1);
         assertThat(found.get(0).getFirstName()).isEqualTo("John");
     }
+
+    @Test
+    void shouldPageEmployeesByKeyset() {
+        // Given
+        employeeRepository.save(testEmployee);
+        Employee second = employeeRepository.save(copyOf(testEmployee, "EMP002", "jane.doe@company.com"));
+        Employee third = employeeRepository.save(copyOf(testEmployee, "EMP003", "jim.doe@company.com"));
+
+        // When
+        List<EmployeeResponse> firstPage = employeeRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(2));
+        List<EmployeeResponse> nextPage = employeeRepository.findByIdGreaterThanOrderByIdAsc(
+                firstPage.get(1).getId(), Limit.of(2));
+
+        // Then
+        assertThat(firstPage).extracting(EmployeeResponse::getEmployeeId).containsExactly("EMP001", "EMP002");
+        assertThat(firstPage).extracting(EmployeeResponse::getDepartmentName).containsOnly(testDepartment.getName());
+        assertThat(nextPage).extracting(EmployeeResponse::getId).containsExactly(third.getId());
+        assertThat(second.getId()).isEqualTo(firstPage.get(1).getId());
+    }
+
+    @Test
+    void shouldPageSearchResultsByKeyset() {
+        // Given
+        Employee first = employeeRepository.save(testEmployee);
+        employeeRepository.save(copyOf(testEmployee, "EMP002", "jane.doe@company.com"));
+
+        // When
+        List<EmployeeResponse> found = employeeRepository.searchByName("doe", first.getId(), Limit.of(10));
+
+        // Then
+        assertThat(found).extracting(EmployeeResponse::getEmployeeId).containsExactly("EMP002");
+    }
+
+    @Test
+    void shouldSearchAcrossFirstAndLastName() {
+        // Given
+        employeeRepository.save(testEmployee);
+
+        // When
+        List<Employee> found = employeeRepository.searchByName("HN DO");
+
+        // Then
+        assertThat(found).extracting(Employee::getEmployeeId).containsExactly("EMP001");
+    }
+
+    @Test
+    void shouldRankClosestNameFirst() {
+        // Given
+        Employee johnson = copyOf(testEmployee, "EMP002", "mary.johnson@company.com");
+        johnson.setFirstName("Mary");
+        johnson.setLastName("Johnson");
+        employeeRepository.save(johnson);
+        employeeRepository.save(testEmployee);
+
+        // When
+        List<EmployeeResponse> found = employeeRepository.searchRankedByName("john", Limit.of(1));
+
+        // Then
+        assertThat(found).extracting(EmployeeResponse::getEmployeeId).containsExactly("EMP001");
+    }
+
+    @Test
+    void shouldStreamAllEmployeesInIdOrder() {
+        // Given
+        employeeRepository.save(testEmployee);
+        employeeRepository.save(copyOf(testEmployee, "EMP002", "jane.doe@company.com"));
+
+        // When
+        List<String> exported;
+        try (Stream<EmployeeResponse> employees = employeeRepository.streamAllForExport()) {
+            exported = employees.map(EmployeeResponse::getEmployeeId).toList();
+        }
+
+        // Then
+        assertThat(exported).containsExactly("EMP001", "EMP002");
+    }
+
+    @Test
+    void shouldCountEmployeesPerDepartment() {
+        // Given
+        Department sales = new Department();
+        sales.setName("Sales");
+        departmentRepository.save(sales);
+        employeeRepository.save(testEmployee);
+        employeeRepository.save(copyOf(testEmployee, "EMP002", "jane.doe@company.com"));
+
+        // When
+        List<DepartmentEmployeeCount> counts = employeeRepository.countEmployeesByDepartment();
+
+        // Then
+        assertThat(counts).hasSize(1);
+        assertThat(counts.get(0).getDepartmentId()).isEqualTo(testDepartment.getId());
+        assertThat(counts.get(0).getEmployeeCount()).isEqualTo(2L);
+        assertThat(employeeRepository.countByDepartmentId(sales.getId())).isZero();
+    }
+
+    private Employee copyOf(Employee source, String employeeId, String email) {
+        Employee copy = new Employee();
+        copy.setEmployeeId(employeeId);
+        copy.setFirstName(source.getFirstName());
+        copy.setLastName(source.getLastName());
+        copy.setEmail(email);
+        copy.setPosition(source.getPosition());
+        copy.setDepartment(source.getDepartment());
+        copy.setSalary(source.getSalary());
+        copy.setStatus(source.getStatus());
+        copy.setHireDate(source.getHireDate());
+        copy.setCreatedBy(source.getCreatedBy());
+        return copy;
+    }
 }
@@ -0,0 +1,86 @@
+package com.employeemgmt.employeeservice.repository;
+
+import com.employeemgmt.employeeservice.entity.OutboxEvent;
+import com.employeemgmt.employeeservice.event.EventType;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class OutboxEventRepositoryTest {
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    void shouldReturnOldestPendingEventsFirst() {
+        // Given
+        for (int i = 1; i <= 3; i++) {
+            OutboxEvent event = new OutboxEvent();
+            event.setMessageKey("EMP00" + i);
+            event.setEventType(EventType.EMPLOYEE_CREATED);
+            event.setPayload("{}");
+            outboxEventRepository.save(event);
+        }
+
+        // When
+        List<OutboxEvent> batch = outboxEventRepository.findPending(Limit.of(2));
+
+        // Then
+        assertThat(batch).extracting(OutboxEvent::getMessageKey).containsExactly("EMP001", "EMP002");
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void shouldKeepPerKeyOrderWhenInstancesWriteInTurn() {
+        // Given - two instances, each with its own id generator state, updating the same employee in turn
+        try (SessionFactory instanceA = sessionFactory(); SessionFactory instanceB = sessionFactory()) {
+            for (int write = 1; write <= 6; write++) {
+                OutboxEvent event = event("EMP001", write);
+                (write % 2 == 1 ? instanceB : instanceA).inTransaction(session -> session.persist(event));
+            }
+        }
+
+        try {
+            // When - the relay sends each key in the order the batch lists it
+            List<OutboxEvent> batch = outboxEventRepository.findPending(Limit.of(10));
+
+            // Then
+            assertThat(batch).extracting(OutboxEvent::getPayload).containsExactly(
+                    "{\"write\":1}", "{\"write\":2}", "{\"write\":3}",
+                    "{\"write\":4}", "{\"write\":5}", "{\"write\":6}");
+        } finally {
+            outboxEventRepository.deleteAll();
+        }
+    }
+
+    private SessionFactory sessionFactory() {
+        Configuration configuration = new Configuration().addAnnotatedClass(OutboxEvent.class);
+        configuration.getProperties().put(AvailableSettings.DATASOURCE, dataSource);
+        return configuration.buildSessionFactory();
+    }
+
+    private static OutboxEvent event(String messageKey, int write) {
+        OutboxEvent event = new OutboxEvent();
+        event.setMessageKey(messageKey);
+        event.setEventType(EventType.EMPLOYEE_UPDATED);
+        event.setPayload("{\"write\":" + write + "}");
+        return event;
+    }
+}
@@ -0,0 +1,86 @@
+package com.employeemgmt.employeeservice.repository;
+
+import com.employeemgmt.employeeservice.entity.Department;
+import com.employeemgmt.employeeservice.entity.Employee;
+import com.employeemgmt.employeeservice.entity.EmployeeStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Ids come from sequences through the pooled optimizer: one nextval() per block of 50 ids
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+class PooledIdGenerationTest {
+
+    private static final int ALLOCATION_SIZE = 50;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void shouldDrawEmployeeIdsInBlocks() {
+        // Given
+        long before = sequenceValue("EMPLOYEES_ID_SEQ");
+
+        // When
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            ids.add(entityManager.persist(employee(i)).getId());
+        }
+        entityManager.flush();
+
+        // Then - contiguous ids, and at most one extra call to prime the optimizer
+        assertThat(ids).doesNotHaveDuplicates();
+        assertThat(ids.get(ids.size() - 1) - ids.get(0)).isEqualTo(119);
+        long sequenceCalls = (sequenceValue("EMPLOYEES_ID_SEQ") - before) / ALLOCATION_SIZE;
+        assertThat(sequenceCalls).isLessThanOrEqualTo(120 / ALLOCATION_SIZE + 2);
+    }
+
+    @Test
+    void shouldDrawDepartmentIdsFromTheirOwnSequence() {
+        // When
+        Department first = entityManager.persist(department("Engineering"));
+        Department second = entityManager.persist(department("Sales"));
+        entityManager.flush();
+
+        // Then
+        assertThat(second.getId()).isEqualTo(first.getId() + 1);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT INCREMENT FROM INFORMATION_SCHEMA.SEQUENCES WHERE SEQUENCE_NAME = 'DEPARTMENTS_ID_SEQ'",
+                Long.class)).isEqualTo(ALLOCATION_SIZE);
+    }
+
+    private long sequenceValue(String sequenceName) {
+        return jdbcTemplate.queryForObject(
+                "SELECT BASE_VALUE FROM INFORMATION_SCHEMA.SEQUENCES WHERE SEQUENCE_NAME = ?", Long.class, sequenceName);
+    }
+
+    private Employee employee(int i) {
+        Employee employee = new Employee();
+        employee.setEmployeeId("SEQ" + i);
+        employee.setFirstName("John");
+        employee.setLastName("Doe" + i);
+        employee.setEmail("seq" + i + "@company.com");
+        employee.setStatus(EmployeeStatus.ACTIVE);
+        return employee;
+    }
+
+    private Department department(String name) {
+        Department department = new Department();
+        department.setName(name);
+        return department;
+    }
+}
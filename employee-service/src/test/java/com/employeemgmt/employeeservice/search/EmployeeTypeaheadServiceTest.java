@@ -0,0 +1,83 @@
+package com.employeemgmt.employeeservice.search;
+
+import com.employeemgmt.employeeservice.dto.TypeaheadSuggestion;
+import com.employeemgmt.employeeservice.repository.EmployeeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeTypeaheadServiceTest {
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @InjectMocks
+    private EmployeeTypeaheadService typeaheadService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(typeaheadService, "defaultLimit", 10);
+        ReflectionTestUtils.setField(typeaheadService, "maxLimit", 50);
+    }
+
+    @Test
+    void shouldPickUpWritesFromOtherInstancesOnRebuild() {
+        // Given - John indexed, then renamed and Jane added through another instance
+        when(employeeRepository.streamTypeaheadSuggestions())
+                .thenReturn(Stream.of(suggestion(1L, "EMP001", "John", "Doe")))
+                .thenReturn(Stream.of(suggestion(1L, "EMP001", "Jonathan", "Doe"),
+                        suggestion(2L, "EMP002", "Jane", "Smith")));
+        typeaheadService.rebuild();
+
+        // When
+        typeaheadService.rebuild();
+
+        // Then
+        assertThat(typeaheadService.suggest("jane", null)).extracting(TypeaheadSuggestion::getEmployeeId)
+                .containsExactly("EMP002");
+        assertThat(typeaheadService.suggest("jonathan", null)).extracting(TypeaheadSuggestion::getEmployeeId)
+                .containsExactly("EMP001");
+        assertThat(typeaheadService.suggest("john", null)).isEmpty();
+    }
+
+    @Test
+    void shouldServeThePreviousIndexWhileRebuilding() {
+        // Given
+        List<List<TypeaheadSuggestion>> seenDuringRebuild = new ArrayList<>();
+        when(employeeRepository.streamTypeaheadSuggestions())
+                .thenReturn(Stream.of(suggestion(1L, "EMP001", "John", "Doe")))
+                .thenReturn(Stream.of(suggestion(2L, "EMP002", "Jane", "Smith"))
+                        .peek(row -> seenDuringRebuild.add(typeaheadService.suggest("john", null))));
+        typeaheadService.rebuild();
+
+        // When
+        typeaheadService.rebuild();
+
+        // Then - never a half-built index
+        assertThat(seenDuringRebuild).singleElement().satisfies(results ->
+                assertThat(results).extracting(TypeaheadSuggestion::getEmployeeId).containsExactly("EMP001"));
+        assertThat(typeaheadService.suggest("john", null)).isEmpty();
+    }
+
+    private TypeaheadSuggestion suggestion(Long id, String employeeId, String firstName, String lastName) {
+        return TypeaheadSuggestion.builder()
+                .id(id)
+                .employeeId(employeeId)
+                .firstName(firstName)
+                .lastName(lastName)
+                .email(firstName.toLowerCase() + "@company.com")
+                .build();
+    }
+}
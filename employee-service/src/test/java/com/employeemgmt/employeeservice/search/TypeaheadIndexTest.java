@@ -0,0 +1,65 @@
+package com.employeemgmt.employeeservice.search;
+
+import com.employeemgmt.employeeservice.dto.TypeaheadSuggestion;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TypeaheadIndexTest {
+
+    private TypeaheadIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TypeaheadIndex();
+        index.put(suggestion(1L, "EMP001", "John", "Doe", "john.doe@company.com"));
+        index.put(suggestion(2L, "EMP002", "Johanna", "Smith", "jo.smith@company.com"));
+        index.put(suggestion(3L, "EMP003", "Carol", "Johnson", "carol.j@company.com"));
+    }
+
+    @Test
+    void shouldMatchPrefixOfAnyToken() {
+        assertThat(ids(index.search("joh", 10))).containsExactlyInAnyOrder(1L, 2L, 3L);
+        assertThat(ids(index.search("smi", 10))).containsExactly(2L);
+        assertThat(ids(index.search("emp003", 10))).containsExactly(3L);
+        assertThat(ids(index.search("carol.j@", 10))).containsExactly(3L);
+        assertThat(ids(index.search("john d", 10))).containsExactly(1L);
+    }
+
+    @Test
+    void shouldPutExactTokenMatchFirstAndRespectLimit() {
+        List<TypeaheadSuggestion> results = index.search("John", 1);
+
+        assertThat(ids(results)).containsExactly(1L);
+    }
+
+    @Test
+    void shouldReindexOnUpdateAndForgetOnRemove() {
+        index.put(suggestion(1L, "EMP001", "Jack", "Doe", "jack.doe@company.com"));
+
+        assertThat(ids(index.search("jack", 10))).containsExactly(1L);
+        assertThat(ids(index.search("john", 10))).containsExactly(3L);
+
+        index.remove(1L);
+
+        assertThat(index.search("jack", 10)).isEmpty();
+        assertThat(index.search("doe", 10)).isEmpty();
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldIgnoreBlankQuery() {
+        assertThat(index.search("  ", 10)).isEmpty();
+    }
+
+    private static List<Long> ids(List<TypeaheadSuggestion> suggestions) {
+        return suggestions.stream().map(TypeaheadSuggestion::getId).toList();
+    }
+
+    private static TypeaheadSuggestion suggestion(Long id, String code, String first, String last, String email) {
+        return new TypeaheadSuggestion(id, code, first, last, email);
+    }
+}
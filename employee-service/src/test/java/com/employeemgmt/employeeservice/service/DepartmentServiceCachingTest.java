@@ -0,0 +1,88 @@
+package com.employeemgmt.employeeservice.service;
+
+import com.employeemgmt.employeeservice.config.CacheConfig;
+import com.employeemgmt.employeeservice.dto.DepartmentRequest;
+import com.employeemgmt.employeeservice.entity.Department;
+import com.employeemgmt.employeeservice.repository.DepartmentRepository;
+import com.employeemgmt.employeeservice.repository.EmployeeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@SpringJUnitConfig({CacheConfig.class, DepartmentService.class, CacheInvalidator.class,
+        DepartmentServiceCachingTest.ConversionConfig.class})
+class DepartmentServiceCachingTest {
+
+    @Configuration
+    static class ConversionConfig {
+        // Boot's conversions (e.g. "10m" to Duration) for the @Value defaults in CacheConfig
+        @Bean
+        static ConversionService conversionService() {
+            return ApplicationConversionService.getSharedInstance();
+        }
+    }
+
+    @Autowired
+    private DepartmentService departmentService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @MockitoBean
+    private DepartmentRepository departmentRepository;
+
+    @MockitoBean
+    private EmployeeRepository employeeRepository;
+
+    private Department department;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+
+        department = new Department();
+        department.setId(1L);
+        department.setName("Engineering");
+        when(departmentRepository.findById(1L)).thenReturn(Optional.of(department));
+        when(departmentRepository.save(any(Department.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    void shouldServeRepeatedReadsFromCache() {
+        departmentService.getDepartmentById(1L);
+        departmentService.getDepartmentById(1L);
+
+        verify(departmentRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    void shouldEvictDepartmentAndEmployeesOnRename() {
+        // Given
+        departmentService.getDepartmentById(1L);
+        cacheManager.getCache(CacheConfig.EMPLOYEES).put(10L, "cached employee");
+
+        DepartmentRequest rename = new DepartmentRequest();
+        rename.setName("Platform Engineering");
+
+        // When
+        departmentService.updateDepartment(1L, rename);
+        departmentService.getDepartmentById(1L);
+
+        // Then
+        verify(departmentRepository, times(3)).findById(1L);
+        assertThat(cacheManager.getCache(CacheConfig.EMPLOYEES).get(10L)).isNull();
+    }
+}
@@ -0,0 +1,105 @@
+package com.employeemgmt.employeeservice.service;
+
+import com.employeemgmt.employeeservice.dto.DepartmentResponse;
+import com.employeemgmt.employeeservice.entity.Department;
+import com.employeemgmt.employeeservice.repository.DepartmentEmployeeCount;
+import com.employeemgmt.employeeservice.repository.DepartmentRepository;
+import com.employeemgmt.employeeservice.repository.EmployeeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DepartmentServiceTest {
+
+    @Mock
+    private DepartmentRepository departmentRepository;
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Mock
+    private CacheInvalidator cacheInvalidator;
+
+    @InjectMocks
+    private DepartmentService departmentService;
+
+    private Department engineering;
+    private Department sales;
+
+    @BeforeEach
+    void setUp() {
+        engineering = new Department();
+        engineering.setId(1L);
+        engineering.setName("Engineering");
+
+        sales = new Department();
+        sales.setId(2L);
+        sales.setName("Sales");
+    }
+
+    @Test
+    void shouldListDepartmentsWithAggregatedCounts() {
+        // Given
+        when(departmentRepository.findAll()).thenReturn(List.of(engineering, sales));
+        when(employeeRepository.countEmployeesByDepartment()).thenReturn(List.of(count(1L, 7L)));
+
+        // When
+        List<DepartmentResponse> departments = departmentService.getAllDepartments();
+
+        // Then
+        assertThat(departments).extracting(DepartmentResponse::getEmployeeCount).containsExactly(7, 0);
+        verify(employeeRepository).countEmployeesByDepartment();
+        verifyNoMoreInteractions(employeeRepository);
+    }
+
+    @Test
+    void shouldCountEmployeesOfSingleDepartment() {
+        // Given
+        when(departmentRepository.findById(1L)).thenReturn(Optional.of(engineering));
+        when(employeeRepository.countByDepartmentId(1L)).thenReturn(3L);
+
+        // When
+        DepartmentResponse response = departmentService.getDepartmentById(1L);
+
+        // Then
+        assertThat(response.getEmployeeCount()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldNotDeleteDepartmentWithEmployees() {
+        // Given
+        when(departmentRepository.findById(1L)).thenReturn(Optional.of(engineering));
+        when(employeeRepository.existsByDepartmentId(1L)).thenReturn(true);
+
+        // When & Then
+        assertThatThrownBy(() -> departmentService.deleteDepartment(1L))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("existing employees");
+        verify(departmentRepository, never()).delete(any());
+    }
+
+    private DepartmentEmployeeCount count(Long departmentId, Long employeeCount) {
+        return new DepartmentEmployeeCount() {
+            @Override
+            public Long getDepartmentId() {
+                return departmentId;
+            }
+
+            @Override
+            public Long getEmployeeCount() {
+                return employeeCount;
+            }
+        };
+    }
+}
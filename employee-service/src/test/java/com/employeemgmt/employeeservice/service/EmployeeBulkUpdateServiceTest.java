@@ -0,0 +1,158 @@
+package com.employeemgmt.employeeservice.service;
+
+import com.employeemgmt.employeeservice.dto.BulkEmployeeUpdateRequest;
+import com.employeemgmt.employeeservice.dto.BulkEmployeeUpdateResult;
+import com.employeemgmt.employeeservice.entity.Department;
+import com.employeemgmt.employeeservice.entity.Employee;
+import com.employeemgmt.employeeservice.entity.EmployeeStatus;
+import com.employeemgmt.employeeservice.entity.OutboxEvent;
+import com.employeemgmt.employeeservice.event.EmployeeEvent;
+import com.employeemgmt.employeeservice.event.EventType;
+import com.employeemgmt.employeeservice.kafka.EmployeeEventOutbox;
+import com.employeemgmt.employeeservice.repository.EmployeeRepository;
+import com.employeemgmt.employeeservice.repository.OutboxEventRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verify;
+
+@DataJpaTest(properties = {
+        "employee.bulk-update.chunk-size=4",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@ActiveProfiles("test")
+@Import({EmployeeBulkUpdateService.class, EmployeeEventOutbox.class})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+class EmployeeBulkUpdateServiceTest {
+
+    @Autowired
+    private EmployeeBulkUpdateService bulkUpdateService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockitoBean
+    private CacheInvalidator cacheInvalidator;
+
+    private Department engineering;
+    private Department sales;
+    private List<Long> ids;
+
+    @BeforeEach
+    void setUp() {
+        engineering = department("Engineering");
+        sales = department("Sales");
+        ids = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            Employee employee = new Employee();
+            employee.setEmployeeId("EMP" + i);
+            employee.setFirstName("John");
+            employee.setLastName("Doe" + i);
+            employee.setEmail("john.doe" + i + "@company.com");
+            employee.setDepartment(engineering);
+            employee.setStatus(EmployeeStatus.ACTIVE);
+            ids.add(entityManager.persist(employee).getId());
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void shouldUpdateStatusInChunksWithOneEventPerChunk() throws Exception {
+        // Given
+        BulkEmployeeUpdateRequest request = new BulkEmployeeUpdateRequest();
+        request.setEmployeeIds(List.of(ids.get(0), ids.get(1), ids.get(2), ids.get(3), ids.get(4), ids.get(5), -1L));
+        request.setStatus(EmployeeStatus.ON_LEAVE);
+        Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // When
+        BulkEmployeeUpdateResult result = bulkUpdateService.updateEmployees(request, "admin");
+        entityManager.flush();
+        entityManager.clear();
+
+        // Then - two chunks of four ids, one key lookup each (statistics count only SELECT queries)
+        assertThat(result.getRequested()).isEqualTo(7);
+        assertThat(result.getUpdated()).isEqualTo(6);
+        assertThat(result.getNotFound()).containsExactly(-1L);
+        assertThat(statistics.getQueryExecutionCount()).isEqualTo(2);
+
+        List<Employee> updated = employeeRepository.findAllById(ids.subList(0, 6));
+        assertThat(updated).extracting(Employee::getStatus).containsOnly(EmployeeStatus.ON_LEAVE);
+        assertThat(updated).extracting(Employee::getUpdatedAt).containsOnly(updated.get(0).getUpdatedAt());
+        assertThat(employeeRepository.findById(ids.get(6)).orElseThrow().getStatus()).isEqualTo(EmployeeStatus.ACTIVE);
+
+        List<OutboxEvent> events = outboxEventRepository.findAll();
+        assertThat(events).extracting(OutboxEvent::getEventType)
+                .containsExactly(EventType.EMPLOYEE_BULK_UPDATED, EventType.EMPLOYEE_BULK_UPDATED);
+        assertThat(events).extracting(OutboxEvent::getMessageKey).containsOnly(EmployeeEvent.BULK_RECORD_KEY);
+        EmployeeEvent first = objectMapper.readValue(events.get(0).getPayload(), EmployeeEvent.class);
+        assertThat(first.getEmployeeIds()).hasSize(3).isSubsetOf(ids);
+        assertThat(first.getStatus()).isEqualTo(EmployeeStatus.ON_LEAVE);
+    }
+
+    @Test
+    void shouldReassignDepartmentAndEvictAffectedCaches() {
+        // Given
+        BulkEmployeeUpdateRequest request = new BulkEmployeeUpdateRequest();
+        request.setEmployeeIds(ids.subList(0, 3));
+        request.setDepartmentId(sales.getId());
+
+        // When
+        BulkEmployeeUpdateResult result = bulkUpdateService.updateEmployees(request, "admin");
+        entityManager.flush();
+        entityManager.clear();
+
+        // Then
+        assertThat(result.getUpdated()).isEqualTo(3);
+        assertThat(employeeRepository.findByDepartmentId(sales.getId())).hasSize(3)
+                .extracting(Employee::getStatus).containsOnly(EmployeeStatus.ACTIVE);
+        verify(cacheInvalidator).evictEmployee(ids.get(0), "EMP0");
+        verify(cacheInvalidator).evictDepartment(engineering.getId());
+        verify(cacheInvalidator).evictDepartment(sales.getId());
+    }
+
+    @Test
+    void shouldRejectRequestWithNothingToChange() {
+        // Given
+        BulkEmployeeUpdateRequest request = new BulkEmployeeUpdateRequest();
+        request.setEmployeeIds(ids);
+
+        // When & Then
+        assertThatThrownBy(() -> bulkUpdateService.updateEmployees(request, "admin"))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("Nothing to update");
+    }
+
+    private Department department(String name) {
+        Department department = new Department();
+        department.setName(name);
+        return entityManager.persist(department);
+    }
+}
@@ -0,0 +1,108 @@
+package com.employeemgmt.employeeservice.service;
+
+import com.employeemgmt.employeeservice.dto.EmployeeResponse;
+import com.employeemgmt.employeeservice.dto.ExportFormat;
+import com.employeemgmt.employeeservice.entity.EmployeeStatus;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EmployeeExportWriterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @Test
+    void shouldQuoteCsvValuesContainingSeparatorsQuotesAndNewlines() throws Exception {
+        // Given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        EmployeeExportWriter writer = new EmployeeExportWriter(ExportFormat.CSV, objectMapper, out);
+        EmployeeResponse employee = EmployeeResponse.builder()
+                .id(1L)
+                .employeeId("EMP001")
+                .firstName("Ada, Countess")
+                .lastName("Lovelace")
+                .position("Writes \"notes\"")
+                .departmentName("Analytical\nEngines")
+                .salary(new BigDecimal("1E+5"))
+                .status(EmployeeStatus.ACTIVE)
+                .hireDate(LocalDate.of(1843, 9, 1))
+                .build();
+
+        // When
+        writer.writeHeader();
+        writer.write(employee);
+        long rows = writer.finish();
+
+        // Then - empty columns stay empty, salary is written without an exponent
+        assertThat(rows).isEqualTo(1);
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(
+                "id,employeeId,firstName,lastName,email,phone,position,departmentId,departmentName,salary,"
+                        + "status,hireDate,createdBy,createdAt,updatedAt\n"
+                        + "1,EMP001,\"Ada, Countess\",Lovelace,,,\"Writes \"\"notes\"\"\",,\"Analytical\nEngines\","
+                        + "100000,ACTIVE,1843-09-01,,,\n");
+    }
+
+    @Test
+    void shouldWriteOneJsonObjectPerLineWithoutHeader() throws Exception {
+        // Given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        EmployeeExportWriter writer = new EmployeeExportWriter(ExportFormat.NDJSON, objectMapper, out);
+
+        // When
+        writer.writeHeader();
+        writer.write(EmployeeResponse.builder().id(1L).firstName("Line\nbreak").build());
+        writer.write(EmployeeResponse.builder().id(2L).firstName("Grace").build());
+        writer.finish();
+
+        // Then - newlines inside values are escaped, so every line is a complete record
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n", -1);
+        assertThat(lines).hasSize(3);
+        assertThat(lines[2]).isEmpty();
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertThat(first.get("id").asLong()).isEqualTo(1);
+        assertThat(first.get("firstName").asText()).isEqualTo("Line\nbreak");
+        assertThat(objectMapper.readTree(lines[1]).get("firstName").asText()).isEqualTo("Grace");
+    }
+
+    @Test
+    void shouldFlushFirstRowThenEveryFiveHundredRows() throws Exception {
+        // Given
+        FlushCountingStream out = new FlushCountingStream();
+        EmployeeExportWriter writer = new EmployeeExportWriter(ExportFormat.NDJSON, objectMapper, out);
+        EmployeeResponse employee = EmployeeResponse.builder().id(1L).build();
+
+        // When & Then - the first row reaches the client before the query completes
+        writer.write(employee);
+        assertThat(out.flushes).isEqualTo(1);
+
+        for (int row = 2; row < 500; row++) {
+            writer.write(employee);
+        }
+        assertThat(out.flushes).isEqualTo(1);
+
+        writer.write(employee);
+        assertThat(out.flushes).isEqualTo(2);
+
+        writer.write(employee);
+        assertThat(writer.finish()).isEqualTo(501);
+        assertThat(out.flushes).isEqualTo(3);
+        assertThat(out.toString(StandardCharsets.UTF_8).split("\n")).hasSize(501);
+    }
+
+    private static final class FlushCountingStream extends ByteArrayOutputStream {
+
+        private int flushes;
+
+        @Override
+        public void flush() {
+            flushes++;
+        }
+    }
+}
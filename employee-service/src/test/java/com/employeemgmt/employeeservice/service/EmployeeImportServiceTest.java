@@ -0,0 +1,170 @@
+package com.employeemgmt.employeeservice.service;
+
+import com.employeemgmt.employeeservice.dto.EmployeeImportResult;
+import com.employeemgmt.employeeservice.dto.EmployeeRequest;
+import com.employeemgmt.employeeservice.entity.Department;
+import com.employeemgmt.employeeservice.entity.Employee;
+import com.employeemgmt.employeeservice.entity.EmployeeStatus;
+import com.employeemgmt.employeeservice.kafka.EmployeeEventOutbox;
+import com.employeemgmt.employeeservice.repository.EmployeeRepository;
+import com.employeemgmt.employeeservice.repository.OutboxEventRepository;
+import com.employeemgmt.employeeservice.search.EmployeeTypeaheadService;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Import({EmployeeImportService.class, EmployeeEventOutbox.class})
+@ImportAutoConfiguration({JacksonAutoConfiguration.class, ValidationAutoConfiguration.class})
+class EmployeeImportServiceTest {
+
+    @Autowired
+    private EmployeeImportService importService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @MockitoBean
+    private EmployeeTypeaheadService typeaheadService;
+
+    @MockitoBean
+    private CacheInvalidator cacheInvalidator;
+
+    private Department engineering;
+
+    @BeforeEach
+    void setUp() {
+        engineering = new Department();
+        engineering.setName("Engineering");
+        engineering = entityManager.persist(engineering);
+
+        Employee existing = new Employee();
+        existing.setEmployeeId("EMP000");
+        existing.setFirstName("Jane");
+        existing.setLastName("Existing");
+        existing.setEmail("jane.existing@company.com");
+        existing.setStatus(EmployeeStatus.ACTIVE);
+        entityManager.persist(existing);
+        entityManager.flush();
+    }
+
+    @Test
+    void shouldImportValidRowsAndReportRejectedOnes() {
+        // Given
+        EmployeeRequest invalid = request("EMP005", "missing.name@company.com", null);
+        invalid.setFirstName(" ");
+        List<EmployeeRequest> requests = List.of(
+                request("EMP001", "emp001@company.com", engineering.getId()),
+                request("EMP000", "taken.code@company.com", null),
+                request("EMP002", "jane.existing@company.com", null),
+                request("EMP003", "emp003@company.com", 999L),
+                request("EMP004", "emp001@company.com", null),
+                invalid,
+                request("EMP006", "emp006@company.com", null));
+
+        // When
+        EmployeeImportResult result = importService.importEmployees(requests, "admin");
+        entityManager.flush();
+
+        // Then
+        assertThat(result.getReceived()).isEqualTo(7);
+        assertThat(result.getImported()).isEqualTo(2);
+        assertThat(result.getErrors())
+                .extracting(EmployeeImportResult.RowError::getRow, EmployeeImportResult.RowError::getMessage)
+                .containsExactly(
+                        tuple(2, "Employee ID already exists: EMP000"),
+                        tuple(3, "Email already exists: jane.existing@company.com"),
+                        tuple(4, "Department not found: 999"),
+                        tuple(5, "Duplicate email in import: emp001@company.com"),
+                        tuple(6, "First name is required"));
+        assertThat(employeeRepository.findByEmployeeId("EMP001").orElseThrow().getDepartment().getId())
+                .isEqualTo(engineering.getId());
+        assertThat(employeeRepository.findByEmployeeId("EMP006")).isPresent();
+        assertThat(outboxEventRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldCheckUniquenessAndDepartmentsWithAFixedNumberOfQueries() {
+        // Given
+        List<EmployeeRequest> requests = new ArrayList<>();
+        for (int i = 1; i <= 120; i++) {
+            requests.add(request(String.format("IMP%03d", i), "imp" + i + "@company.com",
+                    i % 2 == 0 ? engineering.getId() : null));
+        }
+        Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // When
+        EmployeeImportResult result = importService.importEmployees(requests, "admin");
+        entityManager.flush();
+
+        // Then - two uniqueness lookups and one department lookup, however many rows there are
+        assertThat(result.getImported()).isEqualTo(120);
+        assertThat(result.getErrors()).isEmpty();
+        assertThat(statistics.getQueryExecutionCount()).isEqualTo(3);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(240);
+    }
+
+    @Test
+    void shouldImportCsvWithExportColumns() {
+        // Given - the header of a directory export, with a quoted comma and an unparseable salary
+        String csv = "id,employeeId,firstName,lastName,email,phone,position,departmentId,departmentName,"
+                + "salary,status,hireDate,createdBy,createdAt,updatedAt\n"
+                + ",EMP101,John,Doe,john.doe@company.com,,\"Engineer, Backend\"," + engineering.getId()
+                + ",Engineering,75000.00,ACTIVE,2024-03-01,,,\r\n"
+                + ",EMP102,Mary,Major,mary.major@company.com,,,,,lots,active,,,,\n";
+
+        // When
+        EmployeeImportResult result = importService.importCsv(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), "admin");
+        entityManager.flush();
+
+        // Then
+        assertThat(result.getImported()).isEqualTo(1);
+        assertThat(result.getErrors())
+                .extracting(EmployeeImportResult.RowError::getRow, EmployeeImportResult.RowError::getMessage)
+                .containsExactly(tuple(2, "Invalid salary: lots"));
+        Employee imported = employeeRepository.findByEmployeeId("EMP101").orElseThrow();
+        assertThat(imported.getPosition()).isEqualTo("Engineer, Backend");
+        assertThat(imported.getSalary()).isEqualByComparingTo(new BigDecimal("75000.00"));
+    }
+
+    private EmployeeRequest request(String employeeId, String email, Long departmentId) {
+        EmployeeRequest request = new EmployeeRequest();
+        request.setEmployeeId(employeeId);
+        request.setFirstName("John");
+        request.setLastName("Doe");
+        request.setEmail(email);
+        request.setDepartmentId(departmentId);
+        request.setSalary(new BigDecimal("50000"));
+        request.setStatus(EmployeeStatus.ACTIVE);
+        return request;
+    }
+}
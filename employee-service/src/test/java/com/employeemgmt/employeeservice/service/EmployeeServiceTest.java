@@ -1,27 +1,33 @@
 package com.employeemgmt.employeeservice.service;
 
+import com.employeemgmt.employeeservice.dto.CursorPage;
 import com.employeemgmt.employeeservice.dto.EmployeeRequest;
 import com.employeemgmt.employeeservice.dto.EmployeeResponse;
 import com.employeemgmt.employeeservice.entity.Department;
 import com.employeemgmt.employeeservice.entity.Employee;
 import com.employeemgmt.employeeservice.entity.EmployeeStatus;
-import com.employeemgmt.employeeservice.kafka.KafkaProducerService;
+import com.employeemgmt.employeeservice.kafka.EmployeeEventOutbox;
 import com.employeemgmt.employeeservice.repository.DepartmentRepository;
 import com.employeemgmt.employeeservice.repository.EmployeeRepository;
+import com.employeemgmt.employeeservice.search.EmployeeTypeaheadService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -34,7 +40,13 @@ class EmployeeServiceTest {
     private DepartmentRepository departmentRepository;
 
     @Mock
-    private KafkaProducerService kafkaProducerService;
+    private EmployeeEventOutbox employeeEventOutbox;
+
+    @Mock
+    private EmployeeTypeaheadService typeaheadService;
+
+    @Mock
+    private CacheInvalidator cacheInvalidator;
 
     @InjectMocks
     private EmployeeService employeeService;
@@ -45,6 +57,9 @@ class EmployeeServiceTest {
 
     @BeforeEach
     void setUp() {
+        ReflectionTestUtils.setField(employeeService, "defaultPageSize", 20);
+        ReflectionTestUtils.setField(employeeService, "maxPageSize", 100);
+
         department = new Department();
         department.setId(1L);
         department.setName("Engineering");
@@ -88,7 +103,8 @@ class EmployeeServiceTest {
         assertThat(response).isNotNull();
         assertThat(response.getEmployeeId()).isEqualTo("EMP001");
         verify(employeeRepository).save(any(Employee.class));
-        verify(kafkaProducerService).sendEmployeeEvent(any());
+        verify(employeeEventOutbox).append(any());
+        verify(typeaheadService).onEmployeeSaved(employee);
     }
 
     @Test
@@ -115,7 +131,8 @@ class EmployeeServiceTest {
         // Then
         assertThat(response).isNotNull();
         verify(employeeRepository).save(any(Employee.class));
-        verify(kafkaProducerService).sendEmployeeEvent(any());
+        verify(employeeEventOutbox).append(any());
+        verify(cacheInvalidator).evictEmployee(employee);
     }
 
     @Test
@@ -128,7 +145,10 @@ class EmployeeServiceTest {
 
         // Then
         verify(employeeRepository).delete(employee);
-        verify(kafkaProducerService).sendEmployeeEvent(any());
+        verify(employeeEventOutbox).append(any());
+        verify(typeaheadService).onEmployeeDeleted(1L);
+        verify(cacheInvalidator).evictEmployee(employee);
+        verify(cacheInvalidator).evictDepartment(1L);
     }
 
     @Test
@@ -144,4 +164,33 @@ class EmployeeServiceTest {
         assertThat(response.getId()).isEqualTo(1L);
         assertThat(response.getFirstName()).isEqualTo("John");
     }
+
+    @Test
+    void shouldReturnNextCursorWhenMoreRowsExist() {
+        // Given
+        EmployeeResponse first = EmployeeResponse.builder().id(1L).employeeId("EMP001").build();
+        EmployeeResponse second = EmployeeResponse.builder().id(2L).employeeId("EMP002").build();
+        when(employeeRepository.findByIdGreaterThanOrderByIdAsc(eq(0L), eq(Limit.of(2))))
+                .thenReturn(List.of(first, second));
+        when(employeeRepository.findByIdGreaterThanOrderByIdAsc(eq(1L), eq(Limit.of(2))))
+                .thenReturn(List.of(second));
+
+        // When
+        CursorPage<EmployeeResponse> firstPage = employeeService.getAllEmployees(null, 1);
+        CursorPage<EmployeeResponse> lastPage = employeeService.getAllEmployees(firstPage.getNextCursor(), 1);
+
+        // Then
+        assertThat(firstPage.getItems()).extracting(EmployeeResponse::getId).containsExactly(1L);
+        assertThat(firstPage.isHasNext()).isTrue();
+        assertThat(lastPage.getItems()).extracting(EmployeeResponse::getId).containsExactly(2L);
+        assertThat(lastPage.isHasNext()).isFalse();
+        assertThat(lastPage.getNextCursor()).isNull();
+    }
+
+    @Test
+    void shouldRejectMalformedCursor() {
+        assertThatThrownBy(() -> employeeService.getAllEmployees("not-a-cursor", 10))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("Invalid cursor");
+    }
 }
@@ -0,0 +1,46 @@
+package com.employeemgmt.employeeservice.support;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Java implementations of PostgreSQL functions the repositories call, registered
+ * as H2 aliases by schema.sql so the same JPQL runs against the test database
+ */
+public final class H2Functions {
+
+    private H2Functions() {
+    }
+
+    /**
+     * Equivalent of pg_trgm similarity(): shared trigrams divided by distinct trigrams of both strings
+     */
+    public static double similarity(String a, String b) {
+        if (a == null || b == null) {
+            return 0;
+        }
+        Set<String> left = trigrams(a);
+        Set<String> right = trigrams(b);
+        if (left.isEmpty() || right.isEmpty()) {
+            return 0;
+        }
+        Set<String> union = new HashSet<>(left);
+        union.addAll(right);
+        left.retainAll(right);
+        return (double) left.size() / union.size();
+    }
+
+    private static Set<String> trigrams(String value) {
+        Set<String> trigrams = new HashSet<>();
+        for (String word : value.toLowerCase().split("[^\\p{Alnum}]+")) {
+            if (word.isEmpty()) {
+                continue;
+            }
+            String padded = "  " + word + " ";
+            for (int i = 0; i + 3 <= padded.length(); i++) {
+                trigrams.add(padded.substring(i, i + 3));
+            }
+        }
+        return trigrams;
+    }
+}
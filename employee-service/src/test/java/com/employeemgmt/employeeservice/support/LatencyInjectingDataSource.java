@@ -0,0 +1,61 @@
+package com.employeemgmt.employeeservice.support;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Adds a fixed delay to every statement execution, standing in for the network and query time
+ * of a remote database. The delay is spent holding the pooled connection, as a real query would.
+ */
+public class LatencyInjectingDataSource extends DelegatingDataSource {
+
+    private final long latencyMillis;
+
+    public LatencyInjectingDataSource(DataSource target, long latencyMillis) {
+        super(target);
+        this.latencyMillis = latencyMillis;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return proxy(Connection.class, super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return proxy(Connection.class, super.getConnection(username, password));
+    }
+
+    private <T> T proxy(Class<T> type, T target) {
+        return type.cast(Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> {
+                    if (target instanceof Statement && method.getName().startsWith("execute")) {
+                        Thread.sleep(latencyMillis);
+                    }
+                    Object result = invoke(target, method, args);
+                    if (result instanceof Statement && Statement.class.isAssignableFrom(method.getReturnType())) {
+                        return proxyStatement(method.getReturnType(), result);
+                    }
+                    return result;
+                }));
+    }
+
+    private <T> T proxyStatement(Class<T> type, Object statement) {
+        return proxy(type, type.cast(statement));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
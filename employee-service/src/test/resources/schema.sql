@@ -0,0 +1,6 @@
+-- H2 stand-ins for PostgreSQL extension functions used by the repositories
+CREATE ALIAS IF NOT EXISTS SIMILARITY FOR "com.employeemgmt.employeeservice.support.H2Functions.similarity";
+
+-- Hibernate creates search_name as a plain column; make it generated the way V4 does on PostgreSQL
+ALTER TABLE employees DROP COLUMN search_name;
+ALTER TABLE employees ADD COLUMN search_name VARCHAR(101) GENERATED ALWAYS AS (LOWER(first_name || ' ' || last_name));